@@ -1,9 +1,16 @@
 package ch.logixisland.anuto;
 
 import android.app.Application;
+import android.content.Context;
+import android.util.Log;
+
+import java.io.FileOutputStream;
 
 public class AnutoApplication extends Application {
 
+    private static final String TAG = AnutoApplication.class.getSimpleName();
+    private static final String CRASH_INPUT_LOG_FILE = "crash_input.log";
+
     private static AnutoApplication sInstance;
     private GameFactory mGameFactory;
 
@@ -12,6 +19,7 @@ public class AnutoApplication extends Application {
         super.onCreate();
         sInstance = this;
         mGameFactory = new GameFactory(getApplicationContext());
+        installCrashHandler();
     }
 
     public static AnutoApplication getInstance() {
@@ -22,4 +30,35 @@ public class AnutoApplication extends Application {
         return mGameFactory;
     }
 
+    private void installCrashHandler() {
+        final Thread.UncaughtExceptionHandler defaultHandler = Thread.getDefaultUncaughtExceptionHandler();
+
+        Thread.setDefaultUncaughtExceptionHandler(new Thread.UncaughtExceptionHandler() {
+            @Override
+            public void uncaughtException(Thread thread, Throwable throwable) {
+                writeCrashInputLog();
+
+                if (defaultHandler != null) {
+                    defaultHandler.uncaughtException(thread, throwable);
+                }
+            }
+        });
+    }
+
+    private void writeCrashInputLog() {
+        try {
+            FileOutputStream outputStream = openFileOutput(CRASH_INPUT_LOG_FILE, Context.MODE_PRIVATE);
+
+            try {
+                if (!mGameFactory.writeInputLog(outputStream)) {
+                    deleteFile(CRASH_INPUT_LOG_FILE);
+                }
+            } finally {
+                outputStream.close();
+            }
+        } catch (Exception e) {
+            Log.e(TAG, "Could not write crash input log!", e);
+        }
+    }
+
 }
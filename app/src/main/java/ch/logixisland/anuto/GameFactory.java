@@ -3,6 +3,11 @@ package ch.logixisland.anuto;
 import android.content.Context;
 import android.preference.PreferenceManager;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
+import ch.logixisland.anuto.business.game.AutoSaver;
+import ch.logixisland.anuto.business.game.GameConfigurationLoader;
 import ch.logixisland.anuto.business.game.GameLoader;
 import ch.logixisland.anuto.business.game.GameSpeed;
 import ch.logixisland.anuto.business.game.GameState;
@@ -10,17 +15,23 @@ import ch.logixisland.anuto.business.game.HighScores;
 import ch.logixisland.anuto.business.game.MapRepository;
 import ch.logixisland.anuto.business.game.ScoreBoard;
 import ch.logixisland.anuto.business.game.TutorialControl;
+import ch.logixisland.anuto.business.replay.InputLog;
+import ch.logixisland.anuto.business.replay.InputPlayer;
+import ch.logixisland.anuto.business.replay.InputRecorder;
 import ch.logixisland.anuto.business.tower.TowerAging;
 import ch.logixisland.anuto.business.tower.TowerControl;
 import ch.logixisland.anuto.business.tower.TowerInserter;
 import ch.logixisland.anuto.business.tower.TowerSelector;
 import ch.logixisland.anuto.business.wave.WaveManager;
 import ch.logixisland.anuto.engine.logic.GameEngine;
+import ch.logixisland.anuto.engine.logic.RandomSource;
 import ch.logixisland.anuto.engine.logic.entity.EntityRegistry;
 import ch.logixisland.anuto.engine.logic.entity.EntityStore;
-import ch.logixisland.anuto.engine.logic.loop.FrameRateLogger;
 import ch.logixisland.anuto.engine.logic.loop.GameLoop;
+import ch.logixisland.anuto.engine.logic.loop.MessageInbox;
 import ch.logixisland.anuto.engine.logic.loop.MessageQueue;
+import ch.logixisland.anuto.engine.logic.loop.TickProfiler;
+import ch.logixisland.anuto.engine.logic.loop.Tracer;
 import ch.logixisland.anuto.engine.logic.persistence.GamePersister;
 import ch.logixisland.anuto.engine.render.Renderer;
 import ch.logixisland.anuto.engine.render.Viewport;
@@ -28,12 +39,19 @@ import ch.logixisland.anuto.engine.render.sprite.SpriteFactory;
 import ch.logixisland.anuto.engine.sound.SoundFactory;
 import ch.logixisland.anuto.engine.sound.SoundManager;
 import ch.logixisland.anuto.engine.theme.ThemeManager;
+import ch.logixisland.anuto.entity.Types;
+import ch.logixisland.anuto.entity.effect.Explosion;
+import ch.logixisland.anuto.entity.effect.HealEffect;
 import ch.logixisland.anuto.entity.enemy.Blob;
 import ch.logixisland.anuto.entity.enemy.Flyer;
 import ch.logixisland.anuto.entity.enemy.Healer;
 import ch.logixisland.anuto.entity.enemy.Soldier;
 import ch.logixisland.anuto.entity.enemy.Sprinter;
 import ch.logixisland.anuto.entity.plateau.BasicPlateau;
+import ch.logixisland.anuto.entity.shot.CanonShot;
+import ch.logixisland.anuto.entity.shot.CanonShotMg;
+import ch.logixisland.anuto.entity.shot.MortarShot;
+import ch.logixisland.anuto.entity.shot.Rocket;
 import ch.logixisland.anuto.entity.tower.BouncingLaser;
 import ch.logixisland.anuto.entity.tower.Canon;
 import ch.logixisland.anuto.entity.tower.DualCanon;
@@ -55,14 +73,17 @@ public class GameFactory {
     private SpriteFactory mSpriteFactory;
     private SoundFactory mSoundFactory;
     private Viewport mViewport;
-    private FrameRateLogger mFrameRateLogger;
+    private TickProfiler mTickProfiler;
+    private Tracer mTracer;
     private EntityStore mEntityStore;
     private MessageQueue mMessageQueue;
+    private MessageInbox mMessageInbox;
     private Renderer mRenderer;
     private GameEngine mGameEngine;
     private GameLoop mGameLoop;
     private GamePersister mGamePersister;
     private EntityRegistry mEntityRegistry;
+    private RandomSource mRandomSource;
 
     // Business
     private ScoreBoard mScoreBoard;
@@ -72,11 +93,15 @@ public class GameFactory {
     private TowerAging mTowerAging;
     private TowerInserter mTowerInserter;
     private MapRepository mMapRepository;
+    private GameConfigurationLoader mConfigurationLoader;
     private GameLoader mGameLoader;
     private WaveManager mWaveManager;
     private GameSpeed mSpeedManager;
     private GameState mGameState;
     private TutorialControl mTutorialControl;
+    private AutoSaver mAutoSaver;
+    private InputRecorder mInputRecorder;
+    private InputPlayer mInputPlayer;
 
     public GameFactory(Context context) {
         PreferenceManager.setDefaultValues(context, R.xml.settings, false);
@@ -87,20 +112,43 @@ public class GameFactory {
         registerPersisters();
     }
 
+    public GameFactory() {
+        initializeEngine(null);
+        registerEntities();
+        initializeBusiness(null);
+        registerPersisters();
+
+        mGameEngine.setHeadless(true);
+    }
+
     private void initializeEngine(Context context) {
         mViewport = new Viewport();
-        mEntityStore = new EntityStore();
+        mTickProfiler = new TickProfiler();
+        mTracer = new Tracer();
+        mEntityStore = new EntityStore(mTickProfiler);
+        mEntityStore.addSpatialIndex(Types.ENEMY);
         mMessageQueue = new MessageQueue();
+        mMessageInbox = new MessageInbox();
+        mRandomSource = new RandomSource();
         mGamePersister = new GamePersister();
-        mFrameRateLogger = new FrameRateLogger();
-        mRenderer = new Renderer(mViewport, mFrameRateLogger);
-        mGameLoop = new GameLoop(mRenderer, mFrameRateLogger, mMessageQueue, mEntityStore);
-        mThemeManager = new ThemeManager(context, mRenderer);
-        mSoundManager = new SoundManager(context);
-        mSpriteFactory = new SpriteFactory(context, mThemeManager);
-        mSoundFactory = new SoundFactory(context, mSoundManager);
-        mGameEngine = new GameEngine(mSpriteFactory, mThemeManager, mSoundFactory, mEntityStore, mMessageQueue, mRenderer, mGameLoop);
+        mRenderer = new Renderer(mViewport, mTickProfiler, mTracer);
+        mGameLoop = new GameLoop(mRenderer, mTickProfiler, mTracer, mMessageQueue, mMessageInbox, mEntityStore);
+
+        if (context != null) {
+            mThemeManager = new ThemeManager(context, mRenderer);
+            mSoundManager = new SoundManager(context);
+            mSpriteFactory = new SpriteFactory(context, mThemeManager);
+            mSoundFactory = new SoundFactory(context, mSoundManager);
+        } else {
+            mThemeManager = new ThemeManager(mRenderer);
+            mSoundManager = new SoundManager();
+            mSpriteFactory = new SpriteFactory(mThemeManager);
+            mSoundFactory = new SoundFactory(mSoundManager);
+        }
+
+        mGameEngine = new GameEngine(mSpriteFactory, mThemeManager, mSoundFactory, mEntityStore, mMessageQueue, mMessageInbox, mRenderer, mGameLoop, mRandomSource);
         mEntityRegistry = new EntityRegistry(mGameEngine);
+        mGameEngine.setEntityRegistry(mEntityRegistry);
     }
 
     private void registerEntities() {
@@ -124,21 +172,47 @@ public class GameFactory {
         mEntityRegistry.registerEntity(new GlueTower.Factory());
         mEntityRegistry.registerEntity(new GlueGun.Factory());
         mEntityRegistry.registerEntity(new Teleporter.Factory());
+
+        mEntityRegistry.registerPooledEntity(new CanonShot.Factory());
+        mEntityRegistry.registerPooledEntity(new CanonShotMg.Factory());
+        mEntityRegistry.registerPooledEntity(new MortarShot.Factory());
+        mEntityRegistry.registerPooledEntity(new Rocket.Factory());
+        mEntityRegistry.registerPooledEntity(new Explosion.Factory());
+        mEntityRegistry.registerPooledEntity(new ch.logixisland.anuto.entity.effect.BouncingLaser.Factory());
+        mEntityRegistry.registerPooledEntity(new ch.logixisland.anuto.entity.effect.StraightLaser.Factory());
+        mEntityRegistry.registerPooledEntity(new HealEffect.Factory());
     }
 
     private void initializeBusiness(Context context) {
         mMapRepository = new MapRepository();
         mScoreBoard = new ScoreBoard(mGameEngine);
-        mHighScores = new HighScores(context, mGameEngine, mScoreBoard);
-        mTowerSelector = new TowerSelector(mGameEngine, mScoreBoard);
+
+        if (context != null) {
+            mConfigurationLoader = new GameConfigurationLoader(context);
+            mGameLoader = new GameLoader(context, mConfigurationLoader, mGameEngine, mGamePersister, mViewport,
+                    mEntityRegistry, mMapRepository);
+            mHighScores = new HighScores(context, mGameEngine, mScoreBoard);
+        } else {
+            mGameLoader = new GameLoader(mGameEngine, mGamePersister, mViewport, mEntityRegistry, mMapRepository);
+            mHighScores = new HighScores(mGameEngine, mScoreBoard);
+        }
+
+        mInputRecorder = new InputRecorder(mGameEngine, mGameLoader);
+        mTowerSelector = new TowerSelector(mGameEngine, mScoreBoard, mInputRecorder);
         mGameState = new GameState(mScoreBoard, mHighScores, mTowerSelector);
-        mGameLoader = new GameLoader(context, mGameEngine, mGamePersister, mViewport, mEntityRegistry, mMapRepository);
         mTowerAging = new TowerAging(mGameEngine);
-        mSpeedManager = new GameSpeed(mGameEngine);
-        mWaveManager = new WaveManager(mGameEngine, mScoreBoard, mGameState, mEntityRegistry, mTowerAging);
-        mTowerControl = new TowerControl(mGameEngine, mScoreBoard, mTowerSelector, mEntityRegistry);
-        mTowerInserter = new TowerInserter(mGameEngine, mGameState, mEntityRegistry, mTowerSelector, mTowerAging, mScoreBoard);
-        mTutorialControl = new TutorialControl(context, mTowerInserter, mTowerSelector, mWaveManager);
+        mSpeedManager = new GameSpeed(mGameEngine, mInputRecorder);
+        mWaveManager = new WaveManager(mGameEngine, mScoreBoard, mGameState, mEntityRegistry, mTowerAging, mInputRecorder);
+        mTowerControl = new TowerControl(mGameEngine, mScoreBoard, mTowerSelector, mEntityRegistry, mInputRecorder);
+        mTowerInserter = new TowerInserter(mGameEngine, mGameState, mEntityRegistry, mTowerSelector, mTowerControl, mTowerAging, mScoreBoard, mInputRecorder);
+
+        if (context != null) {
+            mTutorialControl = new TutorialControl(context, mTowerInserter, mTowerSelector, mWaveManager);
+            mAutoSaver = new AutoSaver(mGameEngine, mGameLoader, mWaveManager);
+        }
+
+        mInputPlayer = new InputPlayer(mGameEngine, mGameLoader, mMapRepository, mTowerInserter, mTowerSelector,
+                mTowerControl, mWaveManager, mSpeedManager, mInputRecorder);
     }
 
     private void registerPersisters() {
@@ -169,6 +243,7 @@ public class GameFactory {
         mGamePersister.registerPersister(new Teleporter.Persister(mGameEngine, mEntityRegistry));
 
         mGamePersister.registerPersister(mWaveManager);
+        mGamePersister.registerPersister(mRandomSource);
     }
 
     public ThemeManager getThemeManager() {
@@ -183,6 +258,14 @@ public class GameFactory {
         return mRenderer;
     }
 
+    public TickProfiler getTickProfiler() {
+        return mTickProfiler;
+    }
+
+    public Tracer getTracer() {
+        return mTracer;
+    }
+
     public GameEngine getGameEngine() {
         return mGameEngine;
     }
@@ -203,6 +286,10 @@ public class GameFactory {
         return mTowerInserter;
     }
 
+    public GameConfigurationLoader getConfigurationLoader() {
+        return mConfigurationLoader;
+    }
+
     public GameLoader getGameLoader() {
         return mGameLoader;
     }
@@ -230,4 +317,27 @@ public class GameFactory {
     public TutorialControl getTutorialControl() {
         return mTutorialControl;
     }
+
+    public AutoSaver getAutoSaver() {
+        return mAutoSaver;
+    }
+
+    public InputRecorder getInputRecorder() {
+        return mInputRecorder;
+    }
+
+    public InputPlayer getInputPlayer() {
+        return mInputPlayer;
+    }
+
+    public boolean writeInputLog(OutputStream outputStream) throws IOException {
+        InputLog log = mInputRecorder.snapshot();
+
+        if (log == null) {
+            return false;
+        }
+
+        log.write(outputStream);
+        return true;
+    }
 }
@@ -0,0 +1,67 @@
+package ch.logixisland.anuto.business.game;
+
+import ch.logixisland.anuto.business.wave.WaveManager;
+import ch.logixisland.anuto.engine.logic.GameEngine;
+import ch.logixisland.anuto.engine.logic.loop.Message;
+import ch.logixisland.anuto.engine.logic.loop.TickListener;
+
+public class AutoSaver implements GameLoader.Listener, WaveManager.WaveStartedListener, TickListener {
+
+    private final GameEngine mGameEngine;
+    private final GameLoader mGameLoader;
+
+    private int mTickInterval;
+    private int mTickCount;
+
+    public AutoSaver(GameEngine gameEngine, GameLoader gameLoader, WaveManager waveManager) {
+        mGameEngine = gameEngine;
+        mGameLoader = gameLoader;
+
+        mGameLoader.addListener(this);
+        waveManager.addListener(this);
+    }
+
+    public void setTickInterval(final int tickInterval) {
+        if (mGameEngine.isThreadChangeNeeded()) {
+            mGameEngine.post(new Message() {
+                @Override
+                public void execute() {
+                    setTickInterval(tickInterval);
+                }
+            });
+            return;
+        }
+
+        mGameEngine.remove(this);
+        mTickInterval = tickInterval;
+        mTickCount = 0;
+
+        if (mTickInterval > 0) {
+            mGameEngine.add(this);
+        }
+    }
+
+    @Override
+    public void gameLoaded() {
+        mTickCount = 0;
+
+        if (mTickInterval > 0) {
+            mGameEngine.add(this);
+        }
+    }
+
+    @Override
+    public void waveStarted() {
+        mGameLoader.saveGame();
+    }
+
+    @Override
+    public void tick() {
+        mTickCount++;
+
+        if (mTickCount >= mTickInterval) {
+            mTickCount = 0;
+            mGameLoader.saveGame();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package ch.logixisland.anuto.business.game;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.os.Process;
+import android.util.Log;
+
+import org.simpleframework.xml.Serializer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import ch.logixisland.anuto.R;
+import ch.logixisland.anuto.data.CompiledData;
+import ch.logixisland.anuto.data.DataNode;
+import ch.logixisland.anuto.data.SerializerFactory;
+import ch.logixisland.anuto.data.map.GameMap;
+import ch.logixisland.anuto.data.setting.GameSettings;
+import ch.logixisland.anuto.data.wave.WaveInfo;
+import ch.logixisland.anuto.data.wave.WaveInfoList;
+import ch.logixisland.anuto.engine.logic.GameConfiguration;
+
+public class GameConfigurationLoader {
+
+    private static final String TAG = GameConfigurationLoader.class.getSimpleName();
+
+    private final Serializer mSerializer;
+    private final Resources mResources;
+
+    private CompiledData mCompiledData;
+    private boolean mCompiledDataLoaded;
+
+    private GameSettings mGameSettings;
+    private List<WaveInfo> mWaveInfos;
+    private final Map<String, GameMap> mGameMaps = new HashMap<>();
+
+    public GameConfigurationLoader(Context context) {
+        mSerializer = SerializerFactory.createSerializer();
+        mResources = context.getResources();
+    }
+
+    public synchronized GameConfiguration loadConfiguration(MapInfo mapInfo) {
+        try {
+            return new GameConfiguration(getGameSettings(), getGameMap(mapInfo), getWaveInfos());
+        } catch (Exception e) {
+            throw new RuntimeException("Could not load game!", e);
+        }
+    }
+
+    public void preload(List<MapInfo> mapInfos) {
+        final List<MapInfo> pendingMapInfos = new ArrayList<>(mapInfos);
+
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+
+                try {
+                    for (MapInfo mapInfo : pendingMapInfos) {
+                        loadConfiguration(mapInfo);
+                    }
+                } catch (RuntimeException e) {
+                    Log.e(TAG, "Could not preload game configuration!", e);
+                }
+            }
+        }, "ConfigurationPreloader");
+
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private GameSettings getGameSettings() throws Exception {
+        if (mGameSettings == null) {
+            DataNode settings = getCompiledDocument(R.raw.game_settings);
+            DataNode enemySettings = getCompiledDocument(R.raw.enemy_settings);
+            DataNode towerSettings = getCompiledDocument(R.raw.tower_settings);
+
+            if (settings != null && enemySettings != null && towerSettings != null) {
+                mGameSettings = GameSettings.fromNode(settings, enemySettings, towerSettings);
+            } else {
+                mGameSettings = GameSettings.fromXml(mSerializer, mResources, R.raw.game_settings, R.raw.enemy_settings, R.raw.tower_settings);
+            }
+        }
+
+        return mGameSettings;
+    }
+
+    private List<WaveInfo> getWaveInfos() throws Exception {
+        if (mWaveInfos == null) {
+            DataNode waves = getCompiledDocument(R.raw.waves);
+
+            if (waves != null) {
+                mWaveInfos = Collections.unmodifiableList(WaveInfoList.fromNode(waves));
+            } else {
+                mWaveInfos = Collections.unmodifiableList(WaveInfoList.fromXml(mSerializer, mResources, R.raw.waves));
+            }
+        }
+
+        return mWaveInfos;
+    }
+
+    private GameMap getGameMap(MapInfo mapInfo) throws Exception {
+        GameMap gameMap = mGameMaps.get(mapInfo.getMapId());
+
+        if (gameMap == null) {
+            DataNode map = getCompiledDocument(mapInfo.getMapDataResId());
+
+            if (map != null) {
+                gameMap = GameMap.fromNode(map, mapInfo.getMapId());
+            } else {
+                gameMap = GameMap.fromXml(mSerializer, mResources, mapInfo.getMapDataResId(), mapInfo.getMapId());
+            }
+
+            mGameMaps.put(mapInfo.getMapId(), gameMap);
+        }
+
+        return gameMap;
+    }
+
+    private DataNode getCompiledDocument(int resId) {
+        if (!mCompiledDataLoaded) {
+            mCompiledDataLoaded = true;
+
+            try {
+                mCompiledData = CompiledData.fromResource(mResources, R.raw.game_data);
+            } catch (IOException | Resources.NotFoundException e) {
+                Log.w(TAG, "Could not load compiled game data, falling back to XML.", e);
+            }
+        }
+
+        if (mCompiledData == null) {
+            return null;
+        }
+
+        try {
+            return mCompiledData.getDocument(mResources.getResourceEntryName(resId));
+        } catch (Resources.NotFoundException e) {
+            Log.w(TAG, "Compiled game data has no document for resource, falling back to XML.", e);
+            return null;
+        }
+    }
+}
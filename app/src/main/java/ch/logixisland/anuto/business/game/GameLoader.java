@@ -5,20 +5,27 @@ import android.util.Log;
 
 import org.simpleframework.xml.Serializer;
 
+import java.io.BufferedOutputStream;
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 import ch.logixisland.anuto.BuildConfig;
-import ch.logixisland.anuto.R;
 import ch.logixisland.anuto.data.SerializerFactory;
 import ch.logixisland.anuto.data.map.GameMap;
 import ch.logixisland.anuto.data.map.PlateauInfo;
-import ch.logixisland.anuto.data.setting.GameSettings;
+import ch.logixisland.anuto.data.state.BinaryGameState;
 import ch.logixisland.anuto.data.state.GameState;
-import ch.logixisland.anuto.data.wave.WaveInfoList;
 import ch.logixisland.anuto.engine.logic.GameConfiguration;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.EntityRegistry;
@@ -30,7 +37,12 @@ import ch.logixisland.anuto.entity.plateau.Plateau;
 public class GameLoader {
 
     private static final String TAG = GameLoader.class.getSimpleName();
-    private static final String SAVED_GAME_FILE = "saved_game.xml";
+    private static final String SAVED_GAME_FILE = "saved_game.bin";
+    private static final String TEMP_SAVED_GAME_FILE = "saved_game.bin.tmp";
+    private static final String LEGACY_SAVED_GAME_FILE = "saved_game.xml";
+    private static final String TRACE_LOAD_GAME = "GameLoader.loadGame";
+    private static final String TRACE_SAVE_GAME = "GameLoader.saveGame";
+    private static final String TRACE_WRITE_GAME = "GameLoader.writeGame";
 
     public interface Listener {
         void gameLoaded();
@@ -38,25 +50,56 @@ public class GameLoader {
 
     private final Serializer mSerializer;
     private final Context mContext;
+    private final GameConfigurationLoader mConfigurationLoader;
     private final GameEngine mGameEngine;
     private final GamePersister mGamePersister;
     private final Viewport mViewport;
     private final EntityRegistry mEntityRegistry;
     private final MapRepository mMapRepository;
+    private final ExecutorService mSaveExecutor;
 
     private String mCurrentMapId;
+    private volatile Future<?> mPendingSave;
 
     private List<Listener> mListeners = new CopyOnWriteArrayList<>();
 
-    public GameLoader(Context context, GameEngine gameEngine, GamePersister gamePersister,
-                      Viewport viewport, EntityRegistry entityRegistry, MapRepository mapRepository) {
+    public GameLoader(Context context, GameConfigurationLoader configurationLoader, GameEngine gameEngine,
+                      GamePersister gamePersister, Viewport viewport, EntityRegistry entityRegistry,
+                      MapRepository mapRepository) {
         mSerializer = SerializerFactory.createSerializer();
         mContext = context;
+        mConfigurationLoader = configurationLoader;
         mGameEngine = gameEngine;
         mGamePersister = gamePersister;
         mViewport = viewport;
         mEntityRegistry = entityRegistry;
         mMapRepository = mapRepository;
+
+        mSaveExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "GameSaver");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    public GameLoader(GameEngine gameEngine, GamePersister gamePersister, Viewport viewport,
+                      EntityRegistry entityRegistry, MapRepository mapRepository) {
+        mSerializer = SerializerFactory.createSerializer();
+        mContext = null;
+        mConfigurationLoader = null;
+        mGameEngine = gameEngine;
+        mGamePersister = gamePersister;
+        mViewport = viewport;
+        mEntityRegistry = entityRegistry;
+        mMapRepository = mapRepository;
+        mSaveExecutor = null;
+    }
+
+    public String getCurrentMapId() {
+        return mCurrentMapId;
     }
 
     public void addListener(Listener listener) {
@@ -85,30 +128,37 @@ public class GameLoader {
         loadMap(mMapRepository.getMapById(mCurrentMapId));
     }
 
-    public void loadMap(final MapInfo mapInfo) {
+    public void loadMap(MapInfo mapInfo) {
+        loadMap(mapInfo, System.nanoTime());
+    }
+
+    public void loadMap(final MapInfo mapInfo, final long seed) {
         if (mGameEngine.isThreadChangeNeeded()) {
             mGameEngine.post(new Message() {
                 @Override
                 public void execute() {
-                    loadMap(mapInfo);
+                    loadMap(mapInfo, seed);
                 }
             });
             return;
         }
 
-        GameConfiguration gameConfiguration;
+        checkContext();
+        loadGame(mConfigurationLoader.loadConfiguration(mapInfo), null, seed);
+    }
 
-        try {
-            gameConfiguration = new GameConfiguration(
-                    GameSettings.fromXml(mSerializer, mContext.getResources(), R.raw.game_settings, R.raw.enemy_settings, R.raw.tower_settings),
-                    GameMap.fromXml(mSerializer, mContext.getResources(), mapInfo.getMapDataResId(), mapInfo.getMapId()),
-                    WaveInfoList.fromXml(mSerializer, mContext.getResources(), R.raw.waves)
-            );
-        } catch (Exception e) {
-            throw new RuntimeException("Could not load game!", e);
+    public void startGame(final GameConfiguration gameConfiguration, final long seed) {
+        if (mGameEngine.isThreadChangeNeeded()) {
+            mGameEngine.post(new Message() {
+                @Override
+                public void execute() {
+                    startGame(gameConfiguration, seed);
+                }
+            });
+            return;
         }
 
-        loadGame(gameConfiguration, null);
+        loadGame(gameConfiguration, null, seed);
     }
 
     public void loadGame() {
@@ -122,33 +172,40 @@ public class GameLoader {
             return;
         }
 
+        checkContext();
+        mGameEngine.getTracer().begin(TRACE_LOAD_GAME);
+
+        try {
+            readGame();
+        } finally {
+            mGameEngine.getTracer().end(TRACE_LOAD_GAME);
+        }
+    }
+
+    private void readGame() {
+        waitForPendingSave();
         Log.i(TAG, "Loading game...");
         GameState gameState = null;
         GameConfiguration gameConfiguration = null;
 
         try {
 
-            FileInputStream inputStream = mContext.openFileInput(SAVED_GAME_FILE);
-            gameState = mSerializer.read(GameState.class, inputStream);
-            inputStream.close();
+            gameState = readGameState();
 
             MapInfo mapInfo = mMapRepository.getMapById(gameState.getMapId());
-            gameConfiguration = new GameConfiguration(
-                    GameSettings.fromXml(mSerializer, mContext.getResources(), R.raw.game_settings, R.raw.enemy_settings, R.raw.tower_settings),
-                    GameMap.fromXml(mSerializer, mContext.getResources(), mapInfo.getMapDataResId(), mapInfo.getMapId()),
-                    WaveInfoList.fromXml(mSerializer, mContext.getResources(), R.raw.waves)
-            );
+            gameConfiguration = mConfigurationLoader.loadConfiguration(mapInfo);
 
             Log.i(TAG, "Game loaded.");
         } catch (FileNotFoundException e) {
             Log.i(TAG, "No save game file found.");
         } catch (Exception e) {
             mContext.deleteFile(SAVED_GAME_FILE);
+            mContext.deleteFile(LEGACY_SAVED_GAME_FILE);
             throw new RuntimeException("Could not load game!", e);
         }
 
         if (gameState != null && gameConfiguration != null && gameState.getAppVersion() == BuildConfig.VERSION_CODE) {
-            loadGame(gameConfiguration, gameState);
+            loadGame(gameConfiguration, gameState, System.nanoTime());
         } else {
             loadMap(mMapRepository.getDefaultMapInfo());
         }
@@ -165,26 +222,70 @@ public class GameLoader {
             return;
         }
 
+        checkContext();
+        mGameEngine.getTracer().begin(TRACE_SAVE_GAME);
         Log.i(TAG, "Saving game...");
-        GameState gameState = new GameState();
+        final GameState gameState = new GameState();
         gameState.setAppVersion(BuildConfig.VERSION_CODE);
         gameState.setMapId(mCurrentMapId);
         mGamePersister.writeState(gameState);
 
+        mPendingSave = mSaveExecutor.submit(new Runnable() {
+            @Override
+            public void run() {
+                writeGameState(gameState);
+            }
+        });
+
+        mGameEngine.getTracer().end(TRACE_SAVE_GAME);
+    }
+
+    private void writeGameState(GameState gameState) {
+        mGameEngine.getTracer().begin(TRACE_WRITE_GAME);
+        File file = mContext.getFileStreamPath(SAVED_GAME_FILE);
+        File tempFile = mContext.getFileStreamPath(TEMP_SAVED_GAME_FILE);
+
         try {
-            FileOutputStream outputStream = mContext.openFileOutput(SAVED_GAME_FILE, Context.MODE_PRIVATE);
-            mSerializer.write(gameState, outputStream);
-            outputStream.close();
+            FileOutputStream outputStream = new FileOutputStream(tempFile);
+
+            try {
+                BinaryGameState.write(gameState, new BufferedOutputStream(outputStream));
+                outputStream.getFD().sync();
+            } finally {
+                outputStream.close();
+            }
+
+            if (!tempFile.renameTo(file)) {
+                throw new IOException("Could not replace saved game!");
+            }
+
+            mContext.deleteFile(LEGACY_SAVED_GAME_FILE);
             Log.i(TAG, "Game saved.");
         } catch (Exception e) {
-            mContext.deleteFile(SAVED_GAME_FILE);
+            tempFile.delete();
             Log.e(TAG, "Could not save game!", e);
-            throw new RuntimeException("Could not save game!", e);
+        } finally {
+            mGameEngine.getTracer().end(TRACE_WRITE_GAME);
         }
     }
 
-    private void loadGame(GameConfiguration gameConfiguration, GameState gameState) {
+    public void waitForPendingSave() {
+        Future<?> pendingSave = mPendingSave;
+
+        if (pendingSave == null) {
+            return;
+        }
+
+        try {
+            pendingSave.get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException("Could not wait for saved game!", e);
+        }
+    }
+
+    private void loadGame(GameConfiguration gameConfiguration, GameState gameState, long seed) {
         mGameEngine.clear();
+        mGameEngine.setSeed(seed);
 
         GameMap map = gameConfiguration.getGameMap();
         mCurrentMapId = map.getId();
@@ -206,6 +307,33 @@ public class GameLoader {
         }
     }
 
+    private GameState readGameState() throws Exception {
+        if (!mContext.getFileStreamPath(SAVED_GAME_FILE).exists()) {
+            FileInputStream inputStream = mContext.openFileInput(LEGACY_SAVED_GAME_FILE);
+
+            try {
+                return mSerializer.read(GameState.class, inputStream);
+            } finally {
+                inputStream.close();
+            }
+        }
+
+        FileInputStream inputStream = mContext.openFileInput(SAVED_GAME_FILE);
+
+        try {
+            FileChannel channel = inputStream.getChannel();
+            return BinaryGameState.read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    private void checkContext() {
+        if (mContext == null) {
+            throw new RuntimeException("Game loader has no context!");
+        }
+    }
+
     private void initializeMap(GameMap map) {
         for (PlateauInfo info : map.getPlateaus()) {
             Plateau plateau = (Plateau) mEntityRegistry.createEntity(info.getName());
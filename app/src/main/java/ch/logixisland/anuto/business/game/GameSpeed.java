@@ -3,6 +3,8 @@ package ch.logixisland.anuto.business.game;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
+import ch.logixisland.anuto.business.replay.InputLog;
+import ch.logixisland.anuto.business.replay.InputRecorder;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.loop.Message;
 
@@ -15,12 +17,14 @@ public class GameSpeed {
     }
 
     private final GameEngine mGameEngine;
+    private final InputRecorder mInputRecorder;
     private final List<Listener> mListeners = new CopyOnWriteArrayList<>();
 
     private boolean mFastForwardActive = false;
 
-    public GameSpeed(GameEngine gameEngine) {
+    public GameSpeed(GameEngine gameEngine, InputRecorder inputRecorder) {
         mGameEngine = gameEngine;
+        mInputRecorder = inputRecorder;
     }
 
     public boolean isFastForwardActive() {
@@ -32,6 +36,7 @@ public class GameSpeed {
             mGameEngine.post(new Message() {
                 @Override
                 public void execute() {
+                    mInputRecorder.record(InputLog.TOGGLE_FAST_FORWARD);
                     toggleFastForward();
                 }
             });
@@ -18,7 +18,17 @@ public class HighScores {
         mGameEngine = gameEngine;
     }
 
+    public HighScores(GameEngine gameEngine, ScoreBoard scoreBoard) {
+        mHighScores = null;
+        mScoreBoard = scoreBoard;
+        mGameEngine = gameEngine;
+    }
+
     public int getHighScore(String mapId) {
+        if (mHighScores == null) {
+            return 0;
+        }
+
         return mHighScores.getInt(mapId, 0);
     }
 
@@ -33,6 +43,10 @@ public class HighScores {
             return;
         }
 
+        if (mHighScores == null || mGameEngine.isHeadless()) {
+            return;
+        }
+
         String mapId = mGameEngine.getGameConfiguration().getGameMap().getId();
         int highScore = getHighScore(mapId);
         int score = mScoreBoard.getScore();
@@ -43,6 +57,10 @@ public class HighScores {
     }
 
     public void clearHighScores() {
+        if (mHighScores == null) {
+            return;
+        }
+
         mHighScores.edit()
                 .clear()
                 .apply();
@@ -0,0 +1,215 @@
+package ch.logixisland.anuto.business.replay;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public class InputLog {
+
+    private final static int MAGIC = 0x414e4c47;
+    private final static int VERSION = 1;
+
+    public final static int INSERT_TOWER = 1;
+    public final static int SET_TOWER_POSITION = 2;
+    public final static int BUY_TOWER = 3;
+    public final static int CANCEL_INSERT = 4;
+    public final static int REQUEST_BUILD_TOWER = 5;
+    public final static int SELECT_TOWER_AT = 6;
+    public final static int SELECT_TOWER = 7;
+    public final static int UPGRADE_TOWER = 8;
+    public final static int ENHANCE_TOWER = 9;
+    public final static int CYCLE_STRATEGY = 10;
+    public final static int TOGGLE_LOCK_TARGET = 11;
+    public final static int SELL_TOWER = 12;
+    public final static int START_NEXT_WAVE = 13;
+    public final static int TOGGLE_FAST_FORWARD = 14;
+
+    class Reader {
+        private final DataInputStream mInput = new DataInputStream(new ByteArrayInputStream(mCommands));
+        private int mTick = 0;
+
+        boolean hasNext() throws IOException {
+            return mInput.available() > 0;
+        }
+
+        int nextTick() throws IOException {
+            mTick += readVarInt(mInput);
+            return mTick;
+        }
+
+        int nextCommand() throws IOException {
+            return mInput.readUnsignedByte();
+        }
+
+        int readInt() throws IOException {
+            return readVarInt(mInput);
+        }
+
+        float readFloat() throws IOException {
+            return mInput.readFloat();
+        }
+
+        String readString() throws IOException {
+            return mInput.readUTF();
+        }
+    }
+
+    private final String mMapId;
+    private final long mSeed;
+
+    private ByteArrayOutputStream mBuffer;
+    private DataOutputStream mOutput;
+    private byte[] mCommands;
+    private int mLastTick;
+    private int mEndTick;
+
+    InputLog(String mapId, long seed) {
+        mMapId = mapId;
+        mSeed = seed;
+        mBuffer = new ByteArrayOutputStream();
+        mOutput = new DataOutputStream(mBuffer);
+    }
+
+    private InputLog(String mapId, long seed, int endTick, byte[] commands) {
+        mMapId = mapId;
+        mSeed = seed;
+        mEndTick = endTick;
+        mCommands = commands;
+    }
+
+    public static InputLog read(InputStream inputStream) throws IOException {
+        DataInputStream input = new DataInputStream(inputStream);
+
+        if (input.readInt() != MAGIC) {
+            throw new IOException("Not an input log!");
+        }
+
+        if (input.readUnsignedByte() != VERSION) {
+            throw new IOException("Unsupported input log version!");
+        }
+
+        String mapId = input.readUTF();
+        long seed = input.readLong();
+        int endTick = readVarInt(input);
+        byte[] commands = new byte[readVarInt(input)];
+        input.readFully(commands);
+
+        return new InputLog(mapId, seed, endTick, commands);
+    }
+
+    public void write(OutputStream outputStream) throws IOException {
+        DataOutputStream output = new DataOutputStream(outputStream);
+
+        output.writeInt(MAGIC);
+        output.writeByte(VERSION);
+        output.writeUTF(mMapId);
+        output.writeLong(mSeed);
+        writeVarInt(output, mEndTick);
+        writeVarInt(output, mCommands.length);
+        output.write(mCommands);
+        output.flush();
+    }
+
+    public String getMapId() {
+        return mMapId;
+    }
+
+    public long getSeed() {
+        return mSeed;
+    }
+
+    public int getEndTick() {
+        return mEndTick;
+    }
+
+    public boolean isFinished() {
+        return mCommands != null;
+    }
+
+    Reader reader() {
+        if (!isFinished()) {
+            throw new RuntimeException("Input log is not finished!");
+        }
+
+        return new Reader();
+    }
+
+    void appendCommand(int tick, int command) {
+        try {
+            writeVarInt(mOutput, tick - mLastTick);
+            mOutput.writeByte(command);
+            mLastTick = tick;
+        } catch (IOException e) {
+            throw new RuntimeException("Could not append command!", e);
+        }
+    }
+
+    void appendInt(int value) {
+        try {
+            writeVarInt(mOutput, value);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not append command!", e);
+        }
+    }
+
+    void appendFloat(float value) {
+        try {
+            mOutput.writeFloat(value);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not append command!", e);
+        }
+    }
+
+    void appendString(String value) {
+        try {
+            mOutput.writeUTF(value);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not append command!", e);
+        }
+    }
+
+    InputLog snapshot(int endTick) {
+        return new InputLog(mMapId, mSeed, endTick, mBuffer.toByteArray());
+    }
+
+    InputLog continueRecording(int lastTick) {
+        InputLog log = new InputLog(mMapId, mSeed);
+        log.mBuffer.write(mCommands, 0, mCommands.length);
+        log.mLastTick = lastTick;
+        return log;
+    }
+
+    void finish(int endTick) {
+        mEndTick = endTick;
+        mCommands = mBuffer.toByteArray();
+        mBuffer = null;
+        mOutput = null;
+    }
+
+    private static void writeVarInt(DataOutputStream output, int value) throws IOException {
+        while ((value & ~0x7f) != 0) {
+            output.writeByte((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+
+        output.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream input) throws IOException {
+        int value = 0;
+        int shift = 0;
+        int b;
+
+        do {
+            b = input.readUnsignedByte();
+            value |= (b & 0x7f) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+
+        return value;
+    }
+}
@@ -0,0 +1,182 @@
+package ch.logixisland.anuto.business.replay;
+
+import java.io.IOException;
+
+import ch.logixisland.anuto.business.game.GameLoader;
+import ch.logixisland.anuto.business.game.GameSpeed;
+import ch.logixisland.anuto.business.game.MapInfo;
+import ch.logixisland.anuto.business.game.MapRepository;
+import ch.logixisland.anuto.business.tower.TowerControl;
+import ch.logixisland.anuto.business.tower.TowerInserter;
+import ch.logixisland.anuto.business.tower.TowerSelector;
+import ch.logixisland.anuto.business.wave.WaveManager;
+import ch.logixisland.anuto.engine.logic.GameEngine;
+import ch.logixisland.anuto.engine.logic.loop.Message;
+import ch.logixisland.anuto.entity.tower.Tower;
+import ch.logixisland.anuto.util.math.Vector2;
+
+public class InputPlayer {
+
+    private final GameEngine mGameEngine;
+    private final GameLoader mGameLoader;
+    private final MapRepository mMapRepository;
+    private final TowerInserter mTowerInserter;
+    private final TowerSelector mTowerSelector;
+    private final TowerControl mTowerControl;
+    private final WaveManager mWaveManager;
+    private final GameSpeed mGameSpeed;
+    private final InputRecorder mInputRecorder;
+
+    public InputPlayer(GameEngine gameEngine, GameLoader gameLoader, MapRepository mapRepository,
+                       TowerInserter towerInserter, TowerSelector towerSelector, TowerControl towerControl,
+                       WaveManager waveManager, GameSpeed gameSpeed, InputRecorder inputRecorder) {
+        mGameEngine = gameEngine;
+        mGameLoader = gameLoader;
+        mMapRepository = mapRepository;
+        mTowerInserter = towerInserter;
+        mTowerSelector = towerSelector;
+        mTowerControl = towerControl;
+        mWaveManager = waveManager;
+        mGameSpeed = gameSpeed;
+        mInputRecorder = inputRecorder;
+    }
+
+    public void play(InputLog log) {
+        MapInfo mapInfo = mMapRepository.getMapById(log.getMapId());
+        boolean headless = mGameEngine.isHeadless();
+        mGameEngine.setHeadless(true);
+        mInputRecorder.suspend();
+        boolean replayed = false;
+
+        try {
+            mGameLoader.loadMap(mapInfo, log.getSeed());
+
+            InputLog.Reader reader = log.reader();
+            int tickCount = 0;
+
+            while (reader.hasNext()) {
+                int tick = reader.nextTick();
+
+                if (tick > tickCount) {
+                    mGameEngine.runTicks(tick - tickCount);
+                    tickCount = tick;
+                }
+
+                mGameEngine.post(readCommand(reader));
+            }
+
+            mGameEngine.runTicks(Math.max(log.getEndTick() - tickCount, 1));
+            mInputRecorder.resume(log, tickCount);
+            replayed = true;
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read input log!", e);
+        } finally {
+            if (!replayed) {
+                mInputRecorder.resume();
+            }
+
+            mGameEngine.setHeadless(headless);
+        }
+    }
+
+    private Message readCommand(InputLog.Reader reader) throws IOException {
+        int command = reader.nextCommand();
+
+        switch (command) {
+            case InputLog.INSERT_TOWER:
+                final String towerName = reader.readString();
+                return new Message() {
+                    @Override
+                    public void execute() {
+                        mTowerInserter.insertTower(towerName);
+                    }
+                };
+
+            case InputLog.SET_TOWER_POSITION:
+                final Vector2 towerPosition = new Vector2(reader.readFloat(), reader.readFloat());
+                return new Message() {
+                    @Override
+                    public void execute() {
+                        mTowerInserter.setPosition(towerPosition);
+                    }
+                };
+
+            case InputLog.SELECT_TOWER_AT:
+                final Vector2 selectPosition = new Vector2(reader.readFloat(), reader.readFloat());
+                return new Message() {
+                    @Override
+                    public void execute() {
+                        mTowerSelector.selectTowerAt(selectPosition);
+                    }
+                };
+
+            case InputLog.SELECT_TOWER:
+                final int entityId = reader.readInt();
+                return new Message() {
+                    @Override
+                    public void execute() {
+                        mTowerSelector.selectTower(entityId > 0 ? (Tower) mGameEngine.getEntityById(entityId) : null);
+                    }
+                };
+
+            default:
+                if (command < InputLog.INSERT_TOWER || command > InputLog.TOGGLE_FAST_FORWARD) {
+                    throw new RuntimeException("Unknown input command!");
+                }
+
+                return createCommand(command);
+        }
+    }
+
+    private Message createCommand(final int command) {
+        return new Message() {
+            @Override
+            public void execute() {
+                switch (command) {
+                    case InputLog.BUY_TOWER:
+                        mTowerInserter.buyTower();
+                        break;
+
+                    case InputLog.CANCEL_INSERT:
+                        mTowerInserter.cancel();
+                        break;
+
+                    case InputLog.REQUEST_BUILD_TOWER:
+                        mTowerSelector.requestBuildTower();
+                        break;
+
+                    case InputLog.UPGRADE_TOWER:
+                        mTowerControl.upgradeTower();
+                        break;
+
+                    case InputLog.ENHANCE_TOWER:
+                        mTowerControl.enhanceTower();
+                        break;
+
+                    case InputLog.CYCLE_STRATEGY:
+                        mTowerControl.cycleTowerStrategy();
+                        break;
+
+                    case InputLog.TOGGLE_LOCK_TARGET:
+                        mTowerControl.toggleLockTarget();
+                        break;
+
+                    case InputLog.SELL_TOWER:
+                        mTowerControl.sellTower();
+                        break;
+
+                    case InputLog.START_NEXT_WAVE:
+                        mWaveManager.startNextWave();
+                        break;
+
+                    case InputLog.TOGGLE_FAST_FORWARD:
+                        mGameSpeed.toggleFastForward();
+                        break;
+
+                    default:
+                        throw new RuntimeException("Unknown input command!");
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,97 @@
+package ch.logixisland.anuto.business.replay;
+
+import ch.logixisland.anuto.business.game.GameLoader;
+import ch.logixisland.anuto.engine.logic.GameEngine;
+import ch.logixisland.anuto.util.math.Vector2;
+
+public class InputRecorder implements GameLoader.Listener {
+
+    private final GameEngine mGameEngine;
+    private final GameLoader mGameLoader;
+
+    private volatile InputLog mLog;
+    private volatile boolean mSuspended;
+
+    public InputRecorder(GameEngine gameEngine, GameLoader gameLoader) {
+        mGameEngine = gameEngine;
+        mGameLoader = gameLoader;
+
+        mGameLoader.addListener(this);
+    }
+
+    public boolean isRecording() {
+        return mLog != null && !mSuspended;
+    }
+
+    public void suspend() {
+        mSuspended = true;
+    }
+
+    public void resume() {
+        mLog = null;
+        mSuspended = false;
+    }
+
+    public void resume(InputLog replayedLog, int lastTick) {
+        mLog = replayedLog.continueRecording(lastTick);
+        mSuspended = false;
+    }
+
+    public InputLog snapshot() {
+        InputLog log = mLog;
+        return log != null ? log.snapshot(mGameEngine.getTickCount()) : null;
+    }
+
+    public InputLog stop() {
+        InputLog log = mLog;
+        mLog = null;
+
+        if (log != null) {
+            log.finish(mGameEngine.getTickCount());
+        }
+
+        return log;
+    }
+
+    public void record(int command) {
+        if (isRecording()) {
+            mLog.appendCommand(mGameEngine.getTickCount(), command);
+        }
+    }
+
+    public void record(int command, int value) {
+        if (isRecording()) {
+            mLog.appendCommand(mGameEngine.getTickCount(), command);
+            mLog.appendInt(value);
+        }
+    }
+
+    public void record(int command, Vector2 value) {
+        if (isRecording()) {
+            mLog.appendCommand(mGameEngine.getTickCount(), command);
+            mLog.appendFloat(value.x());
+            mLog.appendFloat(value.y());
+        }
+    }
+
+    public void record(int command, String value) {
+        if (isRecording()) {
+            mLog.appendCommand(mGameEngine.getTickCount(), command);
+            mLog.appendString(value);
+        }
+    }
+
+    @Override
+    public void gameLoaded() {
+        if (mSuspended) {
+            return;
+        }
+
+        mLog = null;
+
+        // a restored game can only be replayed from its seed if it has not advanced yet
+        if (mGameEngine.getTickCount() == 0) {
+            mLog = new InputLog(mGameLoader.getCurrentMapId(), mGameEngine.getRandom().getSeed());
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package ch.logixisland.anuto.business.simulation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class SimulationReport {
+
+    private static class WaveStatistics {
+        private int mRuns;
+        private int mSurvived;
+        private long mLivesLost;
+        private long mCreditsEarned;
+    }
+
+    private final List<SimulationResult> mResults = new ArrayList<>();
+    private final Map<String, List<WaveStatistics>> mStatistics = new LinkedHashMap<>();
+
+    void addResult(SimulationResult result) {
+        mResults.add(result);
+
+        List<WaveStatistics> statistics = mStatistics.get(result.getMapId());
+
+        if (statistics == null) {
+            statistics = new ArrayList<>();
+            mStatistics.put(result.getMapId(), statistics);
+        }
+
+        for (int wave = 0; wave < result.getWaveCount(); wave++) {
+            if (wave == statistics.size()) {
+                statistics.add(new WaveStatistics());
+            }
+
+            WaveStatistics waveStatistics = statistics.get(wave);
+            waveStatistics.mRuns++;
+            waveStatistics.mLivesLost += result.getLivesLost(wave);
+            waveStatistics.mCreditsEarned += result.getCreditsEarned(wave);
+
+            if (wave < result.getWavesSurvived()) {
+                waveStatistics.mSurvived++;
+            }
+        }
+    }
+
+    public List<SimulationResult> getResults() {
+        return Collections.unmodifiableList(mResults);
+    }
+
+    public float getSurvivalRate(String mapId, int wave) {
+        WaveStatistics statistics = getStatistics(mapId, wave);
+        return statistics != null ? (float) statistics.mSurvived / statistics.mRuns : 0f;
+    }
+
+    public float getAverageLivesLost(String mapId, int wave) {
+        WaveStatistics statistics = getStatistics(mapId, wave);
+        return statistics != null ? (float) statistics.mLivesLost / statistics.mRuns : 0f;
+    }
+
+    public float getAverageCreditsEarned(String mapId, int wave) {
+        WaveStatistics statistics = getStatistics(mapId, wave);
+        return statistics != null ? (float) statistics.mCreditsEarned / statistics.mRuns : 0f;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("map;wave;runs;survival;livesLost;creditsEarned\n");
+
+        for (Map.Entry<String, List<WaveStatistics>> entry : mStatistics.entrySet()) {
+            List<WaveStatistics> statistics = entry.getValue();
+
+            for (int wave = 0; wave < statistics.size(); wave++) {
+                WaveStatistics waveStatistics = statistics.get(wave);
+                builder.append(String.format(Locale.US, "%s;%d;%d;%.3f;%.2f;%.1f\n",
+                        entry.getKey(),
+                        wave + 1,
+                        waveStatistics.mRuns,
+                        getSurvivalRate(entry.getKey(), wave),
+                        getAverageLivesLost(entry.getKey(), wave),
+                        getAverageCreditsEarned(entry.getKey(), wave)));
+            }
+        }
+
+        return builder.toString();
+    }
+
+    private WaveStatistics getStatistics(String mapId, int wave) {
+        List<WaveStatistics> statistics = mStatistics.get(mapId);
+
+        if (statistics == null || wave >= statistics.size()) {
+            return null;
+        }
+
+        return statistics.get(wave);
+    }
+}
@@ -0,0 +1,64 @@
+package ch.logixisland.anuto.business.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SimulationResult {
+
+    private final String mMapId;
+    private final long mSeed;
+    private final String mScriptName;
+
+    private final List<Integer> mLivesLost = new ArrayList<>();
+    private final List<Integer> mCreditsEarned = new ArrayList<>();
+    private int mWavesSurvived;
+
+    SimulationResult(String mapId, long seed, String scriptName) {
+        mMapId = mapId;
+        mSeed = seed;
+        mScriptName = scriptName;
+    }
+
+    public String getMapId() {
+        return mMapId;
+    }
+
+    public long getSeed() {
+        return mSeed;
+    }
+
+    public String getScriptName() {
+        return mScriptName;
+    }
+
+    public int getWaveCount() {
+        return mLivesLost.size();
+    }
+
+    public int getWavesSurvived() {
+        return mWavesSurvived;
+    }
+
+    public int getLivesLost(int wave) {
+        return mLivesLost.get(wave);
+    }
+
+    public int getCreditsEarned(int wave) {
+        return mCreditsEarned.get(wave);
+    }
+
+    public boolean hasSameOutcome(SimulationResult other) {
+        return mMapId.equals(other.mMapId) && mSeed == other.mSeed && mScriptName.equals(other.mScriptName) &&
+                mWavesSurvived == other.mWavesSurvived && mLivesLost.equals(other.mLivesLost) &&
+                mCreditsEarned.equals(other.mCreditsEarned);
+    }
+
+    void addWave(int livesLost, int creditsEarned, boolean survived) {
+        mLivesLost.add(livesLost);
+        mCreditsEarned.add(creditsEarned);
+
+        if (survived) {
+            mWavesSurvived++;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package ch.logixisland.anuto.business.simulation;
+
+import android.content.Context;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import ch.logixisland.anuto.GameFactory;
+import ch.logixisland.anuto.business.game.GameConfigurationLoader;
+import ch.logixisland.anuto.business.game.GameState;
+import ch.logixisland.anuto.business.game.MapInfo;
+import ch.logixisland.anuto.business.game.MapRepository;
+import ch.logixisland.anuto.business.game.ScoreBoard;
+import ch.logixisland.anuto.business.tower.TowerInserter;
+import ch.logixisland.anuto.business.wave.WaveManager;
+import ch.logixisland.anuto.engine.logic.GameConfiguration;
+import ch.logixisland.anuto.engine.logic.GameEngine;
+import ch.logixisland.anuto.entity.Types;
+import ch.logixisland.anuto.entity.plateau.Plateau;
+
+public class SimulationRunner {
+
+    private final static int TICKS_PER_STEP = GameEngine.TARGET_FRAME_RATE;
+    private final static int MAX_TICKS_PER_WAVE = GameEngine.TARGET_FRAME_RATE * 60 * 10;
+
+    private final GameConfigurationLoader mConfigurationLoader;
+    private final MapRepository mMapRepository = new MapRepository();
+
+    public SimulationRunner(Context context) {
+        mConfigurationLoader = new GameConfigurationLoader(context);
+    }
+
+    public SimulationReport run(List<Long> seeds, List<SimulationScript> scripts, final int waveCount) {
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        List<Future<SimulationResult>> futures = new ArrayList<>();
+
+        for (MapInfo mapInfo : mMapRepository.getMapInfos()) {
+            final GameConfiguration configuration = mConfigurationLoader.loadConfiguration(mapInfo);
+
+            for (final long seed : seeds) {
+                for (final SimulationScript script : scripts) {
+                    futures.add(executor.submit(new Callable<SimulationResult>() {
+                        @Override
+                        public SimulationResult call() {
+                            return simulate(configuration, seed, script, waveCount, false);
+                        }
+                    }));
+                }
+            }
+        }
+
+        SimulationReport report = new SimulationReport();
+
+        try {
+            for (Future<SimulationResult> future : futures) {
+                report.addResult(future.get());
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException("Simulation failed!", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return report;
+    }
+
+    public void verifyParallelSense(List<Long> seeds, List<SimulationScript> scripts, int waveCount) {
+        for (MapInfo mapInfo : mMapRepository.getMapInfos()) {
+            GameConfiguration configuration = mConfigurationLoader.loadConfiguration(mapInfo);
+
+            for (long seed : seeds) {
+                for (SimulationScript script : scripts) {
+                    SimulationResult serial = simulate(configuration, seed, script, waveCount, false);
+                    SimulationResult parallel = simulate(configuration, seed, script, waveCount, true);
+
+                    if (!serial.hasSameOutcome(parallel)) {
+                        throw new RuntimeException("Parallel sense changed the outcome of " + mapInfo.getMapId() +
+                                " with seed " + seed + " and script " + script.getName() + "!");
+                    }
+                }
+            }
+        }
+    }
+
+    private SimulationResult simulate(GameConfiguration configuration, long seed, SimulationScript script, int waveCount,
+                                      boolean parallelSense) {
+        GameFactory factory = new GameFactory();
+        GameEngine gameEngine = factory.getGameEngine();
+        gameEngine.setParallelSense(parallelSense);
+        GameState gameState = factory.getGameState();
+        ScoreBoard scoreBoard = factory.getScoreBoard();
+        WaveManager waveManager = factory.getWaveManager();
+
+        factory.getGameLoader().startGame(configuration, seed);
+        gameEngine.runTicks(1);
+
+        Random placement = new Random(seed);
+        SimulationResult result = new SimulationResult(configuration.getGameMap().getId(), seed, script.getName());
+        int step = 0;
+
+        for (int wave = 0; wave < waveCount && !gameState.isGameOver(); wave++) {
+            step = buildTowers(factory, script, step, wave, placement);
+
+            int lives = scoreBoard.getLives();
+            int creditsEarned = scoreBoard.getCreditsEarned();
+
+            waveManager.startNextWave();
+            gameEngine.runTicks(1);
+
+            int ticks = 0;
+            while (ticks < MAX_TICKS_PER_WAVE && !gameState.isGameOver() &&
+                    (waveManager.getRemainingEnemiesCount() > 0 || !waveManager.isNextWaveReady())) {
+                gameEngine.runTicks(TICKS_PER_STEP);
+                ticks += TICKS_PER_STEP;
+            }
+
+            result.addWave(lives - scoreBoard.getLives(), scoreBoard.getCreditsEarned() - creditsEarned,
+                    !gameState.isGameOver());
+        }
+
+        return result;
+    }
+
+    private int buildTowers(GameFactory factory, SimulationScript script, int step, int wave, Random placement) {
+        GameEngine gameEngine = factory.getGameEngine();
+        TowerInserter towerInserter = factory.getTowerInserter();
+
+        while (step < script.getStepCount() && script.getWaveNumber(step) <= wave) {
+            List<Plateau> plateaus = gameEngine.getEntitiesByType(Types.PLATEAU)
+                    .cast(Plateau.class)
+                    .filter(Plateau.unoccupied())
+                    .toList();
+
+            if (plateaus.isEmpty()) {
+                break;
+            }
+
+            Plateau plateau = plateaus.get(placement.nextInt(plateaus.size()));
+            int towerCount = gameEngine.getEntitiesByType(Types.TOWER).count();
+
+            towerInserter.insertTower(script.getTowerName(step));
+            towerInserter.setPosition(plateau.getPosition());
+            towerInserter.buyTower();
+            towerInserter.cancel();
+            gameEngine.runTicks(1);
+
+            if (gameEngine.getEntitiesByType(Types.TOWER).count() == towerCount) {
+                break;
+            }
+
+            step++;
+        }
+
+        return step;
+    }
+}
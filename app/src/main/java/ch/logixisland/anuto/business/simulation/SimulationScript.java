@@ -0,0 +1,49 @@
+package ch.logixisland.anuto.business.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SimulationScript {
+
+    private static class BuildStep {
+        private final int mWaveNumber;
+        private final String mTowerName;
+
+        BuildStep(int waveNumber, String towerName) {
+            mWaveNumber = waveNumber;
+            mTowerName = towerName;
+        }
+    }
+
+    private final String mName;
+    private final List<BuildStep> mBuildSteps = new ArrayList<>();
+
+    public SimulationScript(String name) {
+        mName = name;
+    }
+
+    public String getName() {
+        return mName;
+    }
+
+    public SimulationScript addTower(int waveNumber, String towerName) {
+        if (!mBuildSteps.isEmpty() && mBuildSteps.get(mBuildSteps.size() - 1).mWaveNumber > waveNumber) {
+            throw new RuntimeException("Build steps must be ordered by wave number!");
+        }
+
+        mBuildSteps.add(new BuildStep(waveNumber, towerName));
+        return this;
+    }
+
+    int getStepCount() {
+        return mBuildSteps.size();
+    }
+
+    int getWaveNumber(int step) {
+        return mBuildSteps.get(step).mWaveNumber;
+    }
+
+    String getTowerName(int step) {
+        return mBuildSteps.get(step).mTowerName;
+    }
+}
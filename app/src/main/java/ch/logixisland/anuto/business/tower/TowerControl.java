@@ -4,6 +4,8 @@ import java.util.Arrays;
 import java.util.List;
 
 import ch.logixisland.anuto.business.game.ScoreBoard;
+import ch.logixisland.anuto.business.replay.InputLog;
+import ch.logixisland.anuto.business.replay.InputRecorder;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.EntityRegistry;
 import ch.logixisland.anuto.engine.logic.loop.Message;
@@ -18,13 +20,27 @@ public class TowerControl {
     private final ScoreBoard mScoreBoard;
     private final TowerSelector mTowerSelector;
     private final EntityRegistry mEntityRegistry;
+    private final InputRecorder mInputRecorder;
+
+    private TowerStrategy mDefaultStrategy = TowerStrategy.Closest;
+    private boolean mDefaultLockTarget = true;
 
     public TowerControl(GameEngine gameEngine, ScoreBoard scoreBoard, TowerSelector towerSelector,
-                        EntityRegistry entityRegistry) {
+                        EntityRegistry entityRegistry, InputRecorder inputRecorder) {
         mGameEngine = gameEngine;
         mScoreBoard = scoreBoard;
         mTowerSelector = towerSelector;
         mEntityRegistry = entityRegistry;
+        mInputRecorder = inputRecorder;
+    }
+
+    void initializeAimer(Tower tower) {
+        Aimer aimer = tower.getAimer();
+
+        if (aimer != null) {
+            aimer.setStrategy(mDefaultStrategy);
+            aimer.setLockTarget(mDefaultLockTarget);
+        }
     }
 
     public void upgradeTower() {
@@ -32,6 +48,7 @@ public class TowerControl {
             mGameEngine.post(new Message() {
                 @Override
                 public void execute() {
+                    mInputRecorder.record(InputLog.UPGRADE_TOWER);
                     upgradeTower();
                 }
             });
@@ -74,6 +91,7 @@ public class TowerControl {
             mGameEngine.post(new Message() {
                 @Override
                 public void execute() {
+                    mInputRecorder.record(InputLog.ENHANCE_TOWER);
                     enhanceTower();
                 }
             });
@@ -95,6 +113,7 @@ public class TowerControl {
             mGameEngine.post(new Message() {
                 @Override
                 public void execute() {
+                    mInputRecorder.record(InputLog.CYCLE_STRATEGY);
                     cycleTowerStrategy();
                 }
             });
@@ -112,7 +131,8 @@ public class TowerControl {
                 index = 0;
             }
 
-            selectedTowerAimer.setStrategy(values.get(index));
+            mDefaultStrategy = values.get(index);
+            selectedTowerAimer.setStrategy(mDefaultStrategy);
             mTowerSelector.updateTowerInfo();
         }
     }
@@ -122,6 +142,7 @@ public class TowerControl {
             mGameEngine.post(new Message() {
                 @Override
                 public void execute() {
+                    mInputRecorder.record(InputLog.TOGGLE_LOCK_TARGET);
                     toggleLockTarget();
                 }
             });
@@ -132,8 +153,8 @@ public class TowerControl {
         Aimer selectedTowerAimer = selectedTower.getAimer();
 
         if (selectedTowerAimer != null) {
-            boolean lock = selectedTowerAimer.doesLockTarget();
-            selectedTowerAimer.setLockTarget(!lock);
+            mDefaultLockTarget = !selectedTowerAimer.doesLockTarget();
+            selectedTowerAimer.setLockTarget(mDefaultLockTarget);
             mTowerSelector.updateTowerInfo();
         }
     }
@@ -143,6 +164,7 @@ public class TowerControl {
             mGameEngine.post(new Message() {
                 @Override
                 public void execute() {
+                    mInputRecorder.record(InputLog.SELL_TOWER);
                     sellTower();
                 }
             });
@@ -6,6 +6,8 @@ import java.util.concurrent.CopyOnWriteArrayList;
 
 import ch.logixisland.anuto.business.game.GameState;
 import ch.logixisland.anuto.business.game.ScoreBoard;
+import ch.logixisland.anuto.business.replay.InputLog;
+import ch.logixisland.anuto.business.replay.InputRecorder;
 import ch.logixisland.anuto.data.setting.tower.TowerSettings;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
@@ -26,8 +28,10 @@ public class TowerInserter {
     private final GameState mGameState;
     private final EntityRegistry mEntityRegistry;
     private final TowerSelector mTowerSelector;
+    private final TowerControl mTowerControl;
     private final TowerAging mTowerAging;
     private final ScoreBoard mScoreBoard;
+    private final InputRecorder mInputRecorder;
 
     private final TowerDefaultValue mTowerDefaultValue;
 
@@ -36,13 +40,16 @@ public class TowerInserter {
     private Collection<Listener> mListeners = new CopyOnWriteArrayList<>();
 
     public TowerInserter(GameEngine gameEngine, GameState gameState, EntityRegistry entityRegistry,
-                         TowerSelector towerSelector, TowerAging towerAging, ScoreBoard scoreBoard) {
+                         TowerSelector towerSelector, TowerControl towerControl, TowerAging towerAging,
+                         ScoreBoard scoreBoard, InputRecorder inputRecorder) {
         mGameEngine = gameEngine;
         mGameState = gameState;
         mEntityRegistry = entityRegistry;
         mTowerSelector = towerSelector;
+        mTowerControl = towerControl;
         mTowerAging = towerAging;
         mScoreBoard = scoreBoard;
+        mInputRecorder = inputRecorder;
 
         mTowerDefaultValue = new TowerDefaultValue(entityRegistry);
     }
@@ -52,6 +59,7 @@ public class TowerInserter {
             mGameEngine.post(new Message() {
                 @Override
                 public void execute() {
+                    mInputRecorder.record(InputLog.INSERT_TOWER, towerName);
                     insertTower(towerName);
                 }
             });
@@ -62,6 +70,7 @@ public class TowerInserter {
                 mScoreBoard.getCredits() >= mTowerDefaultValue.getDefaultValue(towerName)) {
             showTowerLevels();
             mInsertedTower = (Tower) mEntityRegistry.createEntity(towerName);
+            mTowerControl.initializeAimer(mInsertedTower);
         }
     }
 
@@ -75,6 +84,7 @@ public class TowerInserter {
             mGameEngine.post(new Message() {
                 @Override
                 public void execute() {
+                    mInputRecorder.record(InputLog.SET_TOWER_POSITION, position);
                     setPosition(position);
                 }
             });
@@ -85,7 +95,7 @@ public class TowerInserter {
             Plateau closestPlateau = mGameEngine.getEntitiesByType(Types.PLATEAU)
                     .cast(Plateau.class)
                     .filter(Plateau.unoccupied())
-                    .min(Entity.distanceTo(position));
+                    .minBy(Entity.distanceTo(position));
 
             if (closestPlateau != null) {
                 if (mCurrentPlateau == null) {
@@ -106,6 +116,7 @@ public class TowerInserter {
             mGameEngine.post(new Message() {
                 @Override
                 public void execute() {
+                    mInputRecorder.record(InputLog.BUY_TOWER);
                     buyTower();
                 }
             });
@@ -136,6 +147,7 @@ public class TowerInserter {
             mGameEngine.post(new Message() {
                 @Override
                 public void execute() {
+                    mInputRecorder.record(InputLog.CANCEL_INSERT);
                     cancel();
                 }
             });
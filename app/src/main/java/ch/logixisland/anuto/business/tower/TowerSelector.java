@@ -4,6 +4,8 @@ import java.util.Collection;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import ch.logixisland.anuto.business.game.ScoreBoard;
+import ch.logixisland.anuto.business.replay.InputLog;
+import ch.logixisland.anuto.business.replay.InputRecorder;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.engine.logic.loop.Message;
@@ -30,6 +32,7 @@ public class TowerSelector implements ScoreBoard.CreditsListener, Entity.Listene
 
     private final GameEngine mGameEngine;
     private final ScoreBoard mScoreBoard;
+    private final InputRecorder mInputRecorder;
 
     private TowerInfoView mTowerInfoView;
     private TowerBuildView mTowerBuildView;
@@ -40,9 +43,10 @@ public class TowerSelector implements ScoreBoard.CreditsListener, Entity.Listene
 
     private Collection<Listener> mListeners = new CopyOnWriteArrayList<>();
 
-    public TowerSelector(GameEngine gameEngine, ScoreBoard scoreBoard) {
+    public TowerSelector(GameEngine gameEngine, ScoreBoard scoreBoard, InputRecorder inputRecorder) {
         mGameEngine = gameEngine;
         mScoreBoard = scoreBoard;
+        mInputRecorder = inputRecorder;
         mScoreBoard.addCreditsListener(this);
     }
 
@@ -75,6 +79,7 @@ public class TowerSelector implements ScoreBoard.CreditsListener, Entity.Listene
             mGameEngine.post(new Message() {
                 @Override
                 public void execute() {
+                    mInputRecorder.record(InputLog.REQUEST_BUILD_TOWER);
                     requestBuildTower();
                 }
             });
@@ -91,6 +96,7 @@ public class TowerSelector implements ScoreBoard.CreditsListener, Entity.Listene
             mGameEngine.post(new Message() {
                 @Override
                 public void execute() {
+                    mInputRecorder.record(InputLog.SELECT_TOWER_AT, finalPosition);
                     selectTowerAt(finalPosition);
                 }
             });
@@ -99,7 +105,7 @@ public class TowerSelector implements ScoreBoard.CreditsListener, Entity.Listene
 
         Tower closest = (Tower) mGameEngine
                 .getEntitiesByType(Types.TOWER)
-                .min(Entity.distanceTo(position));
+                .minBy(Entity.distanceTo(position));
 
         if (closest != null && closest.getDistanceTo(position) < 0.6f) {
             selectTower(closest);
@@ -114,6 +120,7 @@ public class TowerSelector implements ScoreBoard.CreditsListener, Entity.Listene
             mGameEngine.post(new Message() {
                 @Override
                 public void execute() {
+                    mInputRecorder.record(InputLog.SELECT_TOWER, finalTower != null ? finalTower.getEntityId() : 0);
                     selectTower(finalTower);
                 }
             });
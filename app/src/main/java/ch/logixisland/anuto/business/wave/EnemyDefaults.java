@@ -0,0 +1,43 @@
+package ch.logixisland.anuto.business.wave;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import ch.logixisland.anuto.engine.logic.entity.EntityRegistry;
+import ch.logixisland.anuto.entity.enemy.Enemy;
+
+public class EnemyDefaults {
+
+    private final EntityRegistry mEntityRegistry;
+    private final Map<String, Float> mEnemyDefaultHealth;
+    private final Map<String, Integer> mEnemyDefaultReward;
+
+    public EnemyDefaults(EntityRegistry entityRegistry) {
+        mEntityRegistry = entityRegistry;
+        mEnemyDefaultHealth = new HashMap<>();
+        mEnemyDefaultReward = new HashMap<>();
+    }
+
+    public float getDefaultHealth(String name) {
+        if (!mEnemyDefaultHealth.containsKey(name)) {
+            loadDefaults(name);
+        }
+
+        return mEnemyDefaultHealth.get(name);
+    }
+
+    public int getDefaultReward(String name) {
+        if (!mEnemyDefaultReward.containsKey(name)) {
+            loadDefaults(name);
+        }
+
+        return mEnemyDefaultReward.get(name);
+    }
+
+    private void loadDefaults(String name) {
+        Enemy enemy = (Enemy) mEntityRegistry.createEntity(name);
+        mEnemyDefaultHealth.put(name, enemy.getMaxHealth());
+        mEnemyDefaultReward.put(name, enemy.getReward());
+    }
+
+}
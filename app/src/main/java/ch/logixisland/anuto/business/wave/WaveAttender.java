@@ -1,7 +1,5 @@
 package ch.logixisland.anuto.business.wave;
 
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 
 import ch.logixisland.anuto.business.game.ScoreBoard;
@@ -17,17 +15,22 @@ import ch.logixisland.anuto.entity.enemy.Enemy;
 import ch.logixisland.anuto.entity.enemy.EnemyListener;
 import ch.logixisland.anuto.util.iterator.StreamIterator;
 import ch.logixisland.anuto.util.math.MathUtils;
-import ch.logixisland.anuto.util.math.Vector2;
 
 class WaveAttender implements EnemyListener {
 
     private final GameEngine mGameEngine;
     private final ScoreBoard mScoreBoard;
     private final EntityRegistry mEntityRegistry;
+    private final EnemyDefaults mEnemyDefaults;
     private final WaveManager mWaveManager;
     private final WaveInfo mWaveInfo;
 
-    private final Collection<Enemy> mRemainingEnemies = new ArrayList<>();
+    private final Message mSpawnMessage = new Message() {
+        @Override
+        public void execute() {
+            spawnEnemies();
+        }
+    };
 
     private int mWaveNumber;
     private int mWaveStartTickCount;
@@ -37,11 +40,19 @@ class WaveAttender implements EnemyListener {
     private float mEnemyHealthModifier;
     private float mEnemyRewardModifier;
 
+    private int mSpawnIndex;
+    private int mSpawnTickCount;
+    private float mSpawnOffset;
+
+    private int mRemainingEnemiesCount;
+    private int mRemainingEnemiesReward;
+
     WaveAttender(GameEngine gameEngine, ScoreBoard scoreBoard, EntityRegistry entityRegistry,
-                 WaveManager waveManager, WaveInfo waveInfo, int waveNumber) {
+                 EnemyDefaults enemyDefaults, WaveManager waveManager, WaveInfo waveInfo, int waveNumber) {
         mGameEngine = gameEngine;
         mScoreBoard = scoreBoard;
         mEntityRegistry = entityRegistry;
+        mEnemyDefaults = enemyDefaults;
         mWaveManager = waveManager;
         mWaveInfo = waveInfo;
         mWaveNumber = waveNumber;
@@ -52,10 +63,10 @@ class WaveAttender implements EnemyListener {
         mWaveReward = mWaveInfo.getWaveReward();
     }
 
-    float getWaveDefaultHealth(EnemyDefaultHealth enemyDefaultHealth) {
+    float getWaveDefaultHealth() {
         float waveHealth = 0f;
         for (EnemyInfo d : mWaveInfo.getEnemies()) {
-            waveHealth += enemyDefaultHealth.getDefaultHealth(d.getName());
+            waveHealth += mEnemyDefaults.getDefaultHealth(d.getName());
         }
         waveHealth *= mExtend + 1;
         return waveHealth;
@@ -82,11 +93,13 @@ class WaveAttender implements EnemyListener {
     }
 
     void start() {
-        if (mWaveStartTickCount == 0) {
-            mWaveStartTickCount = mGameEngine.getTickCount();
-        }
+        mWaveStartTickCount = mGameEngine.getTickCount();
+        resetSpawnCursor();
+
+        mRemainingEnemiesCount = getPendingEnemiesCount();
+        mRemainingEnemiesReward = getPendingEnemiesReward();
 
-        scheduleEnemies();
+        scheduleSpawn();
     }
 
     void giveWaveReward() {
@@ -95,17 +108,11 @@ class WaveAttender implements EnemyListener {
     }
 
     int getRemainingEnemiesCount() {
-        return mRemainingEnemies.size();
+        return mRemainingEnemiesCount;
     }
 
-    float getRemainingEnemiesReward() {
-        float totalReward = 0f;
-
-        for (Enemy enemy : mRemainingEnemies) {
-            totalReward += enemy.getReward();
-        }
-
-        return totalReward;
+    int getRemainingEnemiesReward() {
+        return mRemainingEnemiesReward;
     }
 
     ActiveWaveData writeActiveWaveData() {
@@ -116,6 +123,9 @@ class WaveAttender implements EnemyListener {
         data.setWaveReward(mWaveReward);
         data.setEnemyHealthModifier(mEnemyHealthModifier);
         data.setEnemyRewardModifier(mEnemyRewardModifier);
+        data.setSpawnIndex(mSpawnIndex);
+        data.setSpawnTickCount(mSpawnTickCount);
+        data.setSpawnOffset(mSpawnOffset);
         return data;
     }
 
@@ -126,43 +136,114 @@ class WaveAttender implements EnemyListener {
         mEnemyRewardModifier = data.getEnemyRewardModifier();
         mWaveStartTickCount = data.getWaveStartTickCount();
 
+        if (data.getSpawnIndex() >= 0) {
+            mSpawnIndex = data.getSpawnIndex();
+            mSpawnTickCount = data.getSpawnTickCount();
+            mSpawnOffset = data.getSpawnOffset();
+        } else {
+            resetSpawnCursor();
+
+            while (mSpawnIndex < getTotalEnemiesCount() && mSpawnTickCount < mGameEngine.getTickCount()) {
+                advanceSpawnCursor();
+            }
+        }
+
+        mRemainingEnemiesCount = getPendingEnemiesCount();
+        mRemainingEnemiesReward = getPendingEnemiesReward();
+
         StreamIterator<Enemy> enemyIterator = mGameEngine.getEntitiesByType(Types.ENEMY).cast(Enemy.class);
         while (enemyIterator.hasNext()) {
             Enemy enemy = enemyIterator.next();
 
             if (enemy.getWaveNumber() == mWaveNumber) {
-                mRemainingEnemies.add(enemy);
+                mRemainingEnemiesCount++;
+                mRemainingEnemiesReward += enemy.getReward();
                 enemy.addListener(this);
             }
         }
+
+        scheduleSpawn();
+    }
+
+    private int getTotalEnemiesCount() {
+        return mWaveInfo.getEnemies().size() * (mExtend + 1);
     }
 
-    private void scheduleEnemies() {
-        int delayTicks = mWaveStartTickCount - mGameEngine.getTickCount();
-        float offset = 0;
+    private int getPendingEnemiesCount() {
+        return getTotalEnemiesCount() - mSpawnIndex;
+    }
 
+    private int getPendingEnemiesReward() {
         List<EnemyInfo> enemyInfos = mWaveInfo.getEnemies();
 
-        for (int extendIndex = 0; extendIndex < mExtend + 1; extendIndex++) {
-            for (int enemyIndex = 0; enemyIndex < enemyInfos.size(); enemyIndex++) {
-                EnemyInfo info = enemyInfos.get(enemyIndex);
+        if (enemyInfos.isEmpty()) {
+            return 0;
+        }
+
+        int repetitionReward = 0;
+        for (EnemyInfo info : enemyInfos) {
+            repetitionReward += getEnemyReward(info);
+        }
+
+        int pendingReward = 0;
+        int index = mSpawnIndex;
 
-                if (MathUtils.equals(info.getDelay(), 0f, 0.1f)) {
-                    offset += info.getOffset();
-                } else {
-                    offset = info.getOffset();
-                }
+        while (index < getTotalEnemiesCount() && index % enemyInfos.size() != 0) {
+            pendingReward += getEnemyReward(enemyInfos.get(index % enemyInfos.size()));
+            index++;
+        }
 
-                if (enemyIndex > 0 || extendIndex > 0) {
-                    delayTicks += Math.round(info.getDelay() * GameEngine.TARGET_FRAME_RATE);
-                }
+        pendingReward += repetitionReward * ((getTotalEnemiesCount() - index) / enemyInfos.size());
+        return pendingReward;
+    }
 
-                if (delayTicks >= 0) {
-                    Enemy enemy = createAndConfigureEnemy(info, offset);
-                    addEnemy(enemy, delayTicks);
-                }
-            }
+    private int getEnemyReward(EnemyInfo info) {
+        return Math.round(mEnemyDefaults.getDefaultReward(info.getName()) * mEnemyRewardModifier);
+    }
+
+    private void resetSpawnCursor() {
+        mSpawnIndex = 0;
+        mSpawnTickCount = mWaveStartTickCount;
+        mSpawnOffset = mWaveInfo.getEnemies().isEmpty() ? 0 : mWaveInfo.getEnemies().get(0).getOffset();
+    }
+
+    private void advanceSpawnCursor() {
+        mSpawnIndex++;
+
+        if (mSpawnIndex >= getTotalEnemiesCount()) {
+            return;
+        }
+
+        List<EnemyInfo> enemyInfos = mWaveInfo.getEnemies();
+        EnemyInfo info = enemyInfos.get(mSpawnIndex % enemyInfos.size());
+
+        if (MathUtils.equals(info.getDelay(), 0f, 0.1f)) {
+            mSpawnOffset += info.getOffset();
+        } else {
+            mSpawnOffset = info.getOffset();
+        }
+
+        mSpawnTickCount += Math.round(info.getDelay() * GameEngine.TARGET_FRAME_RATE);
+    }
+
+    private void scheduleSpawn() {
+        if (mSpawnIndex < getTotalEnemiesCount()) {
+            mGameEngine.postAfterTicks(mSpawnMessage, Math.max(0, mSpawnTickCount - mGameEngine.getTickCount()));
+        }
+    }
+
+    private void spawnEnemies() {
+        List<EnemyInfo> enemyInfos = mWaveInfo.getEnemies();
+
+        while (mSpawnIndex < getTotalEnemiesCount() && mSpawnTickCount <= mGameEngine.getTickCount()) {
+            EnemyInfo info = enemyInfos.get(mSpawnIndex % enemyInfos.size());
+            Enemy enemy = createAndConfigureEnemy(info, mSpawnOffset);
+            enemy.addListener(this);
+            mGameEngine.add(enemy);
+            advanceSpawnCursor();
         }
+
+        scheduleSpawn();
     }
 
     private Enemy createAndConfigureEnemy(EnemyInfo info, float offset) {
@@ -171,27 +252,11 @@ class WaveAttender implements EnemyListener {
         enemy.setWaveNumber(mWaveNumber);
         enemy.modifyHealth(mEnemyHealthModifier);
         enemy.modifyReward(mEnemyRewardModifier);
-        enemy.setupPath(path.getWayPoints());
-
-        Vector2 startPosition = path.getWayPoints().get(0);
-        Vector2 startDirection = startPosition.to(path.getWayPoints().get(1)).norm();
-        enemy.setPosition(startPosition.add(startDirection.mul(-offset)));
+        enemy.setupPath(path, -offset);
 
         return enemy;
     }
 
-    private void addEnemy(final Enemy enemy, int delayTicks) {
-        mRemainingEnemies.add(enemy);
-        enemy.addListener(this);
-
-        mGameEngine.postAfterTicks(new Message() {
-            @Override
-            public void execute() {
-                mGameEngine.add(enemy);
-            }
-        }, delayTicks);
-    }
-
     @Override
     public void enemyKilled(Enemy enemy) {
         mScoreBoard.giveCredits(enemy.getReward(), true);
@@ -204,10 +269,11 @@ class WaveAttender implements EnemyListener {
 
     @Override
     public void enemyRemoved(Enemy enemy) {
-        mRemainingEnemies.remove(enemy);
-        mWaveManager.enemyRemoved();
+        mRemainingEnemiesCount--;
+        mRemainingEnemiesReward -= enemy.getReward();
+        mWaveManager.enemyRemoved(enemy.getReward());
 
-        if (getRemainingEnemiesCount() == 0) {
+        if (mRemainingEnemiesCount == 0) {
             giveWaveReward();
             mWaveManager.waveFinished(this);
         }
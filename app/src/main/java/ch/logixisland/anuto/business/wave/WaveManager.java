@@ -7,6 +7,8 @@ import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import ch.logixisland.anuto.business.game.ScoreBoard;
+import ch.logixisland.anuto.business.replay.InputLog;
+import ch.logixisland.anuto.business.replay.InputRecorder;
 import ch.logixisland.anuto.business.tower.TowerAging;
 import ch.logixisland.anuto.data.setting.GameSettings;
 import ch.logixisland.anuto.data.state.ActiveWaveData;
@@ -23,6 +25,7 @@ public class WaveManager implements Persister {
 
     private static final int MAX_WAVES_IN_GAME = 3;
     private static final float MIN_WAVE_DELAY = 5;
+    private static final String TRACE_WAVE_STARTED = "WaveManager.startNextWave";
 
     public interface Listener {
         void waveNumberChanged();
@@ -39,27 +42,41 @@ public class WaveManager implements Persister {
     private final ch.logixisland.anuto.business.game.GameState mGameState;
     private final TowerAging mTowerAging;
     private final EntityRegistry mEntityRegistry;
+    private final InputRecorder mInputRecorder;
 
-    private final EnemyDefaultHealth mEnemyDefaultHealth;
+    private final EnemyDefaults mEnemyDefaults;
 
     private int mWaveNumber;
     private int mRemainingEnemiesCount;
+    private int mRemainingEnemiesReward;
+    private int mNotifiedRemainingEnemiesCount;
     private boolean mNextWaveReady;
     private boolean mMinWaveDelayTimeout;
+    private boolean mUpdateScheduled;
 
     private final List<WaveAttender> mActiveWaves = new ArrayList<>();
     private final List<Listener> mListeners = new CopyOnWriteArrayList<>();
     private final List<WaveStartedListener> mWaveStartedListeners = new CopyOnWriteArrayList<>();
 
+    private final Message mUpdateMessage = new Message() {
+        @Override
+        public void execute() {
+            mUpdateScheduled = false;
+            updateBonusOnScoreBoard();
+            notifyRemainingEnemiesCount();
+        }
+    };
+
     public WaveManager(GameEngine gameEngine, ScoreBoard scoreBoard, ch.logixisland.anuto.business.game.GameState gameState,
-                       EntityRegistry entityRegistry, TowerAging towerAging) {
+                       EntityRegistry entityRegistry, TowerAging towerAging, InputRecorder inputRecorder) {
         mGameEngine = gameEngine;
         mScoreBoard = scoreBoard;
         mGameState = gameState;
         mTowerAging = towerAging;
         mEntityRegistry = entityRegistry;
+        mInputRecorder = inputRecorder;
 
-        mEnemyDefaultHealth = new EnemyDefaultHealth(entityRegistry);
+        mEnemyDefaults = new EnemyDefaults(entityRegistry);
     }
 
     public int getWaveNumber() {
@@ -79,6 +96,7 @@ public class WaveManager implements Persister {
             mGameEngine.post(new Message() {
                 @Override
                 public void execute() {
+                    mInputRecorder.record(InputLog.START_NEXT_WAVE);
                     startNextWave();
                 }
             });
@@ -89,12 +107,13 @@ public class WaveManager implements Persister {
             return;
         }
 
+        mGameEngine.getTracer().instant(TRACE_WAVE_STARTED);
         mGameState.gameStarted();
 
         giveWaveRewardAndEarlyBonus();
         createAndStartWaveAttender();
         updateBonusOnScoreBoard();
-        updateRemainingEnemiesCount();
+        notifyRemainingEnemiesCount();
 
         setWaveNumber(mWaveNumber + 1);
         setNextWaveReady(false);
@@ -136,19 +155,22 @@ public class WaveManager implements Persister {
         setWaveNumber(gameState.getWaveNumber());
         initializeActiveWaves(gameState);
         initializeNextWaveReady(gameState);
-        updateRemainingEnemiesCount();
+        updateBonusOnScoreBoard();
+        notifyRemainingEnemiesCount();
     }
 
     private void initializeActiveWaves(GameState gameState) {
         mActiveWaves.clear();
+        mRemainingEnemiesCount = 0;
+        mRemainingEnemiesReward = 0;
+        mUpdateScheduled = false;
         List<WaveInfo> waveInfos = mGameEngine.getGameConfiguration().getWaveInfos();
 
         for (ActiveWaveData activeWaveData : gameState.getActiveWaveData()) {
             WaveInfo waveInfo = waveInfos.get(activeWaveData.getWaveNumber() % waveInfos.size());
-            WaveAttender waveAttender = new WaveAttender(mGameEngine, mScoreBoard, mEntityRegistry, this, waveInfo, activeWaveData.getWaveNumber());
+            WaveAttender waveAttender = new WaveAttender(mGameEngine, mScoreBoard, mEntityRegistry, mEnemyDefaults, this, waveInfo, activeWaveData.getWaveNumber());
             waveAttender.readActiveWaveData(activeWaveData);
-            waveAttender.start();
-            mActiveWaves.add(waveAttender);
+            addActiveWave(waveAttender);
         }
     }
 
@@ -178,19 +200,33 @@ public class WaveManager implements Persister {
         }
     }
 
-    void enemyRemoved() {
-        updateBonusOnScoreBoard();
-        updateRemainingEnemiesCount();
+    void enemyRemoved(int reward) {
+        mRemainingEnemiesCount--;
+        mRemainingEnemiesReward -= reward;
+        scheduleUpdate();
     }
 
     void waveFinished(WaveAttender waveAttender) {
         mActiveWaves.remove(waveAttender);
 
         mTowerAging.ageTowers();
-        updateBonusOnScoreBoard();
+        scheduleUpdate();
         updateNextWaveReady();
     }
 
+    private void addActiveWave(WaveAttender waveAttender) {
+        mActiveWaves.add(waveAttender);
+        mRemainingEnemiesCount += waveAttender.getRemainingEnemiesCount();
+        mRemainingEnemiesReward += waveAttender.getRemainingEnemiesReward();
+    }
+
+    private void scheduleUpdate() {
+        if (!mUpdateScheduled) {
+            mUpdateScheduled = true;
+            mGameEngine.postAfterTicks(mUpdateMessage, 0);
+        }
+    }
+
     private void giveWaveRewardAndEarlyBonus() {
         WaveAttender currentWave = getCurrentWave();
 
@@ -239,15 +275,9 @@ public class WaveManager implements Persister {
         }
     }
 
-    private void updateRemainingEnemiesCount() {
-        int totalCount = 0;
-
-        for (WaveAttender waveAttender : mActiveWaves) {
-            totalCount += waveAttender.getRemainingEnemiesCount();
-        }
-
-        if (mRemainingEnemiesCount != totalCount) {
-            mRemainingEnemiesCount = totalCount;
+    private void notifyRemainingEnemiesCount() {
+        if (mNotifiedRemainingEnemiesCount != mRemainingEnemiesCount) {
+            mNotifiedRemainingEnemiesCount = mRemainingEnemiesCount;
 
             for (Listener listener : mListeners) {
                 listener.remainingEnemiesCountChanged();
@@ -258,11 +288,11 @@ public class WaveManager implements Persister {
     private void createAndStartWaveAttender() {
         List<WaveInfo> waveInfos = mGameEngine.getGameConfiguration().getWaveInfos();
         WaveInfo nextWaveInfo = waveInfos.get(mWaveNumber % waveInfos.size());
-        WaveAttender nextWave = new WaveAttender(mGameEngine, mScoreBoard, mEntityRegistry, this, nextWaveInfo, mWaveNumber);
+        WaveAttender nextWave = new WaveAttender(mGameEngine, mScoreBoard, mEntityRegistry, mEnemyDefaults, this, nextWaveInfo, mWaveNumber);
         updateWaveExtend(nextWave, nextWaveInfo);
         updateWaveModifiers(nextWave);
         nextWave.start();
-        mActiveWaves.add(nextWave);
+        addActiveWave(nextWave);
     }
 
     private void updateWaveExtend(WaveAttender wave, WaveInfo waveInfo) {
@@ -273,7 +303,7 @@ public class WaveManager implements Persister {
     private void updateWaveModifiers(WaveAttender wave) {
         GameSettings settings = mGameEngine.getGameConfiguration().getGameSettings();
 
-        float waveHealth = wave.getWaveDefaultHealth(this.mEnemyDefaultHealth);
+        float waveHealth = wave.getWaveDefaultHealth();
         float damagePossible = settings.getDifficultyLinear() * mScoreBoard.getCreditsEarned()
                 + settings.getDifficultyModifier() * (float) Math.pow(mScoreBoard.getCreditsEarned(), settings.getDifficultyExponent());
         float healthModifier = damagePossible / waveHealth;
@@ -299,14 +329,8 @@ public class WaveManager implements Persister {
     }
 
     private int getEarlyBonus() {
-        float remainingReward = 0;
-
-        for (WaveAttender wave : mActiveWaves) {
-            remainingReward += wave.getRemainingEnemiesReward();
-        }
-
         GameSettings settings = mGameEngine.getGameConfiguration().getGameSettings();
-        return Math.round(settings.getEarlyModifier() * (float) Math.pow(remainingReward, settings.getEarlyExponent()));
+        return Math.round(settings.getEarlyModifier() * (float) Math.pow(mRemainingEnemiesReward, settings.getEarlyExponent()));
     }
 
     private WaveAttender getCurrentWave() {
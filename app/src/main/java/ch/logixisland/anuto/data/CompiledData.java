@@ -0,0 +1,125 @@
+package ch.logixisland.anuto.data;
+
+import android.content.res.AssetFileDescriptor;
+import android.content.res.Resources;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class CompiledData {
+
+    private final static int MAGIC = 0x414e4744;
+    private final static int VERSION = 2;
+
+    private final static Charset UTF_8 = Charset.forName("UTF-8");
+    private final static String[] NO_ATTRIBUTES = new String[0];
+
+    private final ByteBuffer mBuffer;
+    private final String[] mStrings;
+    private final Map<String, Integer> mDocumentOffsets = new HashMap<>();
+
+    private CompiledData(ByteBuffer buffer) throws IOException {
+        mBuffer = buffer;
+
+        if (mBuffer.getInt() != MAGIC) {
+            throw new IOException("Not a compiled data file!");
+        }
+
+        if ((mBuffer.get() & 0xff) != VERSION) {
+            throw new IOException("Unsupported compiled data version!");
+        }
+
+        mStrings = new String[readVarInt()];
+
+        for (int i = 0; i < mStrings.length; i++) {
+            byte[] bytes = new byte[readVarInt()];
+            mBuffer.get(bytes);
+            mStrings[i] = new String(bytes, UTF_8);
+        }
+
+        int documentCount = readVarInt();
+
+        for (int i = 0; i < documentCount; i++) {
+            String name = readString();
+            int length = readVarInt();
+            mDocumentOffsets.put(name, mBuffer.position());
+            mBuffer.position(mBuffer.position() + length);
+        }
+    }
+
+    public static CompiledData fromResource(Resources resources, int resId) throws IOException {
+        AssetFileDescriptor descriptor = resources.openRawResourceFd(resId);
+
+        try {
+            FileInputStream stream = descriptor.createInputStream();
+            FileChannel channel = stream.getChannel();
+            return new CompiledData(channel.map(FileChannel.MapMode.READ_ONLY,
+                    descriptor.getStartOffset(), descriptor.getLength()));
+        } finally {
+            descriptor.close();
+        }
+    }
+
+    public static CompiledData read(ByteBuffer buffer) throws IOException {
+        return new CompiledData(buffer);
+    }
+
+    public synchronized DataNode getDocument(String name) {
+        Integer offset = mDocumentOffsets.get(name);
+
+        if (offset == null) {
+            return null;
+        }
+
+        mBuffer.position(offset);
+        return readNode();
+    }
+
+    private DataNode readNode() {
+        String name = readString();
+
+        int attributeCount = readVarInt();
+        String[] attributes = attributeCount > 0 ? new String[attributeCount * 2] : NO_ATTRIBUTES;
+
+        for (int i = 0; i < attributes.length; i++) {
+            attributes[i] = readString();
+        }
+
+        String text = readString();
+
+        int childCount = readVarInt();
+        List<DataNode> children = new ArrayList<>(childCount);
+
+        for (int i = 0; i < childCount; i++) {
+            children.add(readNode());
+        }
+
+        return new DataNode(name, attributes, text, children);
+    }
+
+    private String readString() {
+        int index = readVarInt();
+        return index > 0 ? mStrings[index - 1] : null;
+    }
+
+    private int readVarInt() {
+        int value = 0;
+        int shift = 0;
+        int b;
+
+        do {
+            b = mBuffer.get() & 0xff;
+            value |= (b & 0x7f) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+
+        return value;
+    }
+}
@@ -0,0 +1,107 @@
+package ch.logixisland.anuto.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class DataNode {
+
+    private final String mName;
+    private final String[] mAttributes;
+    private final String mText;
+    private final List<DataNode> mChildren;
+
+    DataNode(String name, String[] attributes, String text, List<DataNode> children) {
+        mName = name;
+        mAttributes = attributes;
+        mText = text;
+        mChildren = children;
+    }
+
+    public String getName() {
+        return mName;
+    }
+
+    public String getText() {
+        return mText;
+    }
+
+    public List<DataNode> getChildren() {
+        return Collections.unmodifiableList(mChildren);
+    }
+
+    public List<DataNode> getChildren(String name) {
+        List<DataNode> children = new ArrayList<>();
+
+        for (DataNode child : mChildren) {
+            if (child.mName.equals(name)) {
+                children.add(child);
+            }
+        }
+
+        return children;
+    }
+
+    public DataNode getChild(String name) {
+        for (DataNode child : mChildren) {
+            if (child.mName.equals(name)) {
+                return child;
+            }
+        }
+
+        return null;
+    }
+
+    public DataNode requireChild(String name) {
+        DataNode child = getChild(name);
+
+        if (child == null) {
+            throw new RuntimeException("Missing element " + name + " in " + mName + "!");
+        }
+
+        return child;
+    }
+
+    public String getString(String name) {
+        DataNode child = getChild(name);
+        return child != null ? child.mText : null;
+    }
+
+    public int getInt(String name) {
+        return Integer.parseInt(requireChild(name).mText);
+    }
+
+    public int getInt(String name, int defaultValue) {
+        String value = getString(name);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+
+    public float getFloat(String name) {
+        return Float.parseFloat(requireChild(name).mText);
+    }
+
+    public float getFloat(String name, float defaultValue) {
+        String value = getString(name);
+        return value != null ? Float.parseFloat(value) : defaultValue;
+    }
+
+    public String getAttribute(String name) {
+        for (int i = 0; i < mAttributes.length; i += 2) {
+            if (mAttributes[i].equals(name)) {
+                return mAttributes[i + 1];
+            }
+        }
+
+        return null;
+    }
+
+    public int getIntAttribute(String name, int defaultValue) {
+        String value = getAttribute(name);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+
+    public float getFloatAttribute(String name, float defaultValue) {
+        String value = getAttribute(name);
+        return value != null ? Float.parseFloat(value) : defaultValue;
+    }
+}
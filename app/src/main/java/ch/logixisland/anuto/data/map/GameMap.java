@@ -13,6 +13,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
+import ch.logixisland.anuto.data.DataNode;
+
 @Root
 public class GameMap {
 
@@ -43,6 +45,23 @@ public class GameMap {
         }
     }
 
+    public static GameMap fromNode(DataNode node, String mapId) {
+        GameMap gameMap = new GameMap();
+        gameMap.mId = mapId;
+        gameMap.mWidth = node.getInt("width");
+        gameMap.mHeight = node.getInt("height");
+
+        for (DataNode plateau : node.requireChild("plateaus").getChildren("plateau")) {
+            gameMap.mPlateaus.add(PlateauInfo.fromNode(plateau));
+        }
+
+        for (DataNode path : node.requireChild("paths").getChildren("path")) {
+            gameMap.mPaths.add(MapPath.fromNode(path));
+        }
+
+        return gameMap;
+    }
+
     public String getId() {
         return mId;
     }
@@ -7,6 +7,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import ch.logixisland.anuto.data.DataNode;
+import ch.logixisland.anuto.util.math.MutableVector2;
 import ch.logixisland.anuto.util.math.Vector2;
 
 @Root
@@ -15,8 +17,149 @@ public class MapPath {
     @ElementList(entry = "wayPoint", inline = true)
     private List<Vector2> wayPoints = new ArrayList<>();
 
+    private volatile float[] mDistances;
+    private Vector2[] mDirections;
+
+    public MapPath() {
+    }
+
+    public MapPath(List<Vector2> wayPoints) {
+        this.wayPoints = new ArrayList<>(wayPoints);
+    }
+
+    public static MapPath fromNode(DataNode node) {
+        List<Vector2> wayPoints = new ArrayList<>();
+
+        for (DataNode wayPoint : node.getChildren("wayPoint")) {
+            wayPoints.add(new Vector2(wayPoint.getFloatAttribute("x", 0f), wayPoint.getFloatAttribute("y", 0f)));
+        }
+
+        return new MapPath(wayPoints);
+    }
+
     public List<Vector2> getWayPoints() {
         return Collections.unmodifiableList(wayPoints);
     }
 
+    public float getLength() {
+        initTables();
+        return mDistances[mDistances.length - 1];
+    }
+
+    public float getDistanceAt(int wayPointIndex, Vector2 position) {
+        initTables();
+
+        if (wayPointIndex >= wayPoints.size()) {
+            return getLength();
+        }
+
+        return mDistances[wayPointIndex] - position.to(wayPoints.get(wayPointIndex)).len();
+    }
+
+    public float getDistanceClosestTo(Vector2 position) {
+        initTables();
+
+        float closestDistance = 0f;
+        float closestOffset = Float.MAX_VALUE;
+
+        for (int i = 0; i < mDirections.length; i++) {
+            Vector2 start = wayPoints.get(i);
+            Vector2 direction = mDirections[i];
+            float segmentLength = mDistances[i + 1] - mDistances[i];
+            float dx = position.x() - start.x();
+            float dy = position.y() - start.y();
+            float along = Math.max(0f, Math.min(segmentLength, dx * direction.x() + dy * direction.y()));
+            float ox = dx - direction.x() * along;
+            float oy = dy - direction.y() * along;
+            float offset = ox * ox + oy * oy;
+
+            if (offset < closestOffset) {
+                closestOffset = offset;
+                closestDistance = mDistances[i] + along;
+            }
+        }
+
+        return closestDistance;
+    }
+
+    public int getWayPointIndexAt(float distance) {
+        initTables();
+
+        if (distance >= getLength()) {
+            return wayPoints.size();
+        }
+
+        if (distance < 0) {
+            return 0;
+        }
+
+        return getSegmentIndex(distance) + 1;
+    }
+
+    public Vector2 getPositionAt(float distance) {
+        return getPositionAt(distance, new MutableVector2()).toVector2();
+    }
+
+    public MutableVector2 getPositionAt(float distance, MutableVector2 result) {
+        initTables();
+
+        if (wayPoints.size() < 2) {
+            return result.set(wayPoints.get(0));
+        }
+
+        if (distance >= getLength()) {
+            return result.set(wayPoints.get(wayPoints.size() - 1));
+        }
+
+        int index = getSegmentIndex(distance);
+        Vector2 direction = mDirections[index];
+        float offset = distance - mDistances[index];
+        return result.set(wayPoints.get(index)).addInPlace(direction.x() * offset, direction.y() * offset);
+    }
+
+    public Vector2 getDirectionAt(float distance) {
+        initTables();
+
+        if (mDirections.length == 0) {
+            return null;
+        }
+
+        return mDirections[getSegmentIndex(distance)];
+    }
+
+    private int getSegmentIndex(float distance) {
+        int low = 0;
+        int high = mDirections.length - 1;
+
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+
+            if (mDistances[mid] <= distance) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        return low;
+    }
+
+    private void initTables() {
+        if (mDistances != null) {
+            return;
+        }
+
+        int count = wayPoints.size();
+        float[] distances = new float[count];
+        Vector2[] directions = new Vector2[Math.max(count - 1, 0)];
+
+        for (int i = 1; i < count; i++) {
+            Vector2 segment = wayPoints.get(i - 1).to(wayPoints.get(i));
+            distances[i] = distances[i - 1] + segment.len();
+            directions[i - 1] = segment.norm();
+        }
+
+        mDirections = directions;
+        mDistances = distances;
+    }
 }
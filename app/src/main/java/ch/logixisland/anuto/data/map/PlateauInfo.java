@@ -3,6 +3,7 @@ package ch.logixisland.anuto.data.map;
 import org.simpleframework.xml.Attribute;
 import org.simpleframework.xml.Root;
 
+import ch.logixisland.anuto.data.DataNode;
 import ch.logixisland.anuto.util.math.Vector2;
 
 @Root
@@ -17,6 +18,14 @@ public class PlateauInfo {
     @Attribute(name = "y")
     private float mY;
 
+    public static PlateauInfo fromNode(DataNode node) {
+        PlateauInfo info = new PlateauInfo();
+        info.mName = node.getAttribute("name");
+        info.mX = node.getFloatAttribute("x", 0f);
+        info.mY = node.getFloatAttribute("y", 0f);
+        return info;
+    }
+
     public String getName() {
         return mName;
     }
@@ -8,6 +8,7 @@ import org.simpleframework.xml.Serializer;
 
 import java.io.InputStream;
 
+import ch.logixisland.anuto.data.DataNode;
 import ch.logixisland.anuto.data.setting.enemy.EnemySettings;
 import ch.logixisland.anuto.data.setting.tower.TowerSettings;
 
@@ -78,6 +79,27 @@ public class GameSettings {
         return settings;
     }
 
+    public static GameSettings fromNode(DataNode settingsNode, DataNode enemySettingsNode, DataNode towerSettingsNode) {
+        GameSettings settings = new GameSettings();
+        settings.mCredits = settingsNode.getInt("credits");
+        settings.mLives = settingsNode.getInt("lives");
+        settings.mDifficultyModifier = settingsNode.getFloat("difficultyModifier");
+        settings.mDifficultyExponent = settingsNode.getFloat("difficultyExponent");
+        settings.mDifficultyLinear = settingsNode.getFloat("difficultyLinear");
+        settings.mMinHealthModifier = settingsNode.getFloat("minHealthModifier");
+        settings.mRewardModifier = settingsNode.getFloat("rewardModifier");
+        settings.mRewardExponent = settingsNode.getFloat("rewardExponent");
+        settings.mMinRewardModifier = settingsNode.getFloat("minRewardModifier");
+        settings.mEarlyModifier = settingsNode.getFloat("earlyModifier");
+        settings.mEarlyExponent = settingsNode.getFloat("earlyExponent");
+        settings.mMinSpeedModifier = settingsNode.getFloat("minSpeedModifier");
+        settings.mWeakAgainstModifier = settingsNode.getFloat("weakAgainstModifier");
+        settings.mStrongAgainstModifier = settingsNode.getFloat("strongAgainstModifier");
+        settings.mEnemySettings = EnemySettings.fromNode(enemySettingsNode);
+        settings.mTowerSettings = TowerSettings.fromNode(towerSettingsNode);
+        return settings;
+    }
+
     public int getCredits() {
         return mCredits;
     }
@@ -8,6 +8,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 
+import ch.logixisland.anuto.data.DataNode;
+
 @Root
 public class BasicEnemySettings {
 
@@ -26,6 +28,26 @@ public class BasicEnemySettings {
     @ElementList(entry = "strongAgainst", inline = true, required = false)
     private Collection<WeaponType> mStrongAgainst = new ArrayList<>();
 
+    public static BasicEnemySettings fromNode(DataNode node) {
+        BasicEnemySettings settings = new BasicEnemySettings();
+        settings.readNode(node);
+        return settings;
+    }
+
+    protected void readNode(DataNode node) {
+        mHealth = node.getFloat("health");
+        mSpeed = node.getFloat("speed");
+        mReward = node.getInt("reward");
+
+        for (DataNode weakAgainst : node.getChildren("weakAgainst")) {
+            mWeakAgainst.add(WeaponType.valueOf(weakAgainst.getText()));
+        }
+
+        for (DataNode strongAgainst : node.getChildren("strongAgainst")) {
+            mStrongAgainst.add(WeaponType.valueOf(strongAgainst.getText()));
+        }
+    }
+
     public float getHealth() {
         return mHealth;
     }
@@ -8,6 +8,8 @@ import org.simpleframework.xml.Serializer;
 
 import java.io.InputStream;
 
+import ch.logixisland.anuto.data.DataNode;
+
 @Root
 public class EnemySettings {
 
@@ -36,6 +38,16 @@ public class EnemySettings {
         }
     }
 
+    public static EnemySettings fromNode(DataNode node) {
+        EnemySettings settings = new EnemySettings();
+        settings.mSoldierSettings = BasicEnemySettings.fromNode(node.requireChild("soldier"));
+        settings.mBlobSettings = BasicEnemySettings.fromNode(node.requireChild("blob"));
+        settings.mSprinterSettings = BasicEnemySettings.fromNode(node.requireChild("sprinter"));
+        settings.mHealerSettings = HealerSettings.fromNode(node.requireChild("healer"));
+        settings.mFlyerSettings = BasicEnemySettings.fromNode(node.requireChild("flyer"));
+        return settings;
+    }
+
     public BasicEnemySettings getSoldierSettings() {
         return mSoldierSettings;
     }
@@ -3,6 +3,8 @@ package ch.logixisland.anuto.data.setting.enemy;
 import org.simpleframework.xml.Element;
 import org.simpleframework.xml.Root;
 
+import ch.logixisland.anuto.data.DataNode;
+
 @Root
 public class HealerSettings extends BasicEnemySettings {
 
@@ -18,6 +20,21 @@ public class HealerSettings extends BasicEnemySettings {
     @Element(name = "healDuration")
     private float mHealDuration;
 
+    public static HealerSettings fromNode(DataNode node) {
+        HealerSettings settings = new HealerSettings();
+        settings.readNode(node);
+        return settings;
+    }
+
+    @Override
+    protected void readNode(DataNode node) {
+        super.readNode(node);
+        mHealAmount = node.getFloat("healAmount");
+        mHealRadius = node.getFloat("healRadius");
+        mHealInterval = node.getFloat("healInterval");
+        mHealDuration = node.getFloat("healDuration");
+    }
+
     public float getHealAmount() {
         return mHealAmount;
     }
@@ -3,6 +3,7 @@ package ch.logixisland.anuto.data.setting.tower;
 import org.simpleframework.xml.Element;
 import org.simpleframework.xml.Root;
 
+import ch.logixisland.anuto.data.DataNode;
 import ch.logixisland.anuto.data.setting.enemy.WeaponType;
 
 @Root
@@ -47,6 +48,28 @@ public class BasicTowerSettings {
     @Element(name = "upgradeCost", required = false)
     private int mUpgradeCost;
 
+    public static BasicTowerSettings fromNode(DataNode node) {
+        BasicTowerSettings settings = new BasicTowerSettings();
+        settings.readNode(node);
+        return settings;
+    }
+
+    protected void readNode(DataNode node) {
+        mValue = node.getInt("value");
+        mDamage = node.getFloat("damage", 0f);
+        mRange = node.getFloat("range");
+        mReload = node.getFloat("reload");
+        mMaxLevel = node.getInt("maxLevel");
+        mWeaponType = node.getChild("weaponType") != null ? WeaponType.valueOf(node.getString("weaponType")) : null;
+        mEnhanceBase = node.getFloat("enhanceBase");
+        mEnhanceCost = node.getInt("enhanceCost");
+        mEnhanceDamage = node.getFloat("enhanceDamage", 0f);
+        mEnhanceRange = node.getFloat("enhanceRange", 0f);
+        mEnhanceReload = node.getFloat("enhanceReload", 0f);
+        mUpgrade = node.getString("upgrade");
+        mUpgradeCost = node.getInt("upgradeCost", 0);
+    }
+
     public int getValue() {
         return mValue;
     }
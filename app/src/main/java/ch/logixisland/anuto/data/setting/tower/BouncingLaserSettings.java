@@ -3,6 +3,8 @@ package ch.logixisland.anuto.data.setting.tower;
 import org.simpleframework.xml.Element;
 import org.simpleframework.xml.Root;
 
+import ch.logixisland.anuto.data.DataNode;
+
 @Root
 public class BouncingLaserSettings extends BasicTowerSettings {
 
@@ -12,6 +14,19 @@ public class BouncingLaserSettings extends BasicTowerSettings {
     @Element(name = "bounceDistance")
     private float mBounceDistance;
 
+    public static BouncingLaserSettings fromNode(DataNode node) {
+        BouncingLaserSettings settings = new BouncingLaserSettings();
+        settings.readNode(node);
+        return settings;
+    }
+
+    @Override
+    protected void readNode(DataNode node) {
+        super.readNode(node);
+        mBounceCount = node.getInt("bounceCount");
+        mBounceDistance = node.getFloat("bounceDistance");
+    }
+
     public int getBounceCount() {
         return mBounceCount;
     }
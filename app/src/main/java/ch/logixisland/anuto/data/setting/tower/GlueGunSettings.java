@@ -3,6 +3,8 @@ package ch.logixisland.anuto.data.setting.tower;
 import org.simpleframework.xml.Element;
 import org.simpleframework.xml.Root;
 
+import ch.logixisland.anuto.data.DataNode;
+
 @Root
 public class GlueGunSettings extends BasicTowerSettings {
 
@@ -15,6 +17,20 @@ public class GlueGunSettings extends BasicTowerSettings {
     @Element(name = "glueDuration")
     private float mGlueDuration;
 
+    public static GlueGunSettings fromNode(DataNode node) {
+        GlueGunSettings settings = new GlueGunSettings();
+        settings.readNode(node);
+        return settings;
+    }
+
+    @Override
+    protected void readNode(DataNode node) {
+        super.readNode(node);
+        mGlueIntensity = node.getFloat("glueIntensity");
+        mEnhanceGlueIntensity = node.getFloat("enhanceGlueIntensity");
+        mGlueDuration = node.getFloat("glueDuration");
+    }
+
     public float getGlueIntensity() {
         return mGlueIntensity;
     }
@@ -3,6 +3,8 @@ package ch.logixisland.anuto.data.setting.tower;
 import org.simpleframework.xml.Element;
 import org.simpleframework.xml.Root;
 
+import ch.logixisland.anuto.data.DataNode;
+
 @Root
 public class GlueTowerSettings extends BasicTowerSettings {
 
@@ -15,6 +17,20 @@ public class GlueTowerSettings extends BasicTowerSettings {
     @Element(name = "glueDuration")
     private float mGlueDuration;
 
+    public static GlueTowerSettings fromNode(DataNode node) {
+        GlueTowerSettings settings = new GlueTowerSettings();
+        settings.readNode(node);
+        return settings;
+    }
+
+    @Override
+    protected void readNode(DataNode node) {
+        super.readNode(node);
+        mGlueIntensity = node.getFloat("glueIntensity");
+        mEnhanceGlueIntensity = node.getFloat("enhanceGlueIntensity");
+        mGlueDuration = node.getFloat("glueDuration");
+    }
+
     public float getGlueIntensity() {
         return mGlueIntensity;
     }
@@ -3,6 +3,8 @@ package ch.logixisland.anuto.data.setting.tower;
 import org.simpleframework.xml.Element;
 import org.simpleframework.xml.Root;
 
+import ch.logixisland.anuto.data.DataNode;
+
 @Root
 public class MineLayerSettings extends BasicTowerSettings {
 
@@ -18,6 +20,21 @@ public class MineLayerSettings extends BasicTowerSettings {
     @Element(name = "enhanceExplosionRadius")
     private float mEnhanceExplosionRadius;
 
+    public static MineLayerSettings fromNode(DataNode node) {
+        MineLayerSettings settings = new MineLayerSettings();
+        settings.readNode(node);
+        return settings;
+    }
+
+    @Override
+    protected void readNode(DataNode node) {
+        super.readNode(node);
+        mMaxMineCount = node.getInt("maxMineCount");
+        mEnhanceMaxMineCount = node.getInt("enhanceMaxMineCount");
+        mExplosionRadius = node.getFloat("explosionRadius");
+        mEnhanceExplosionRadius = node.getFloat("enhanceExplosionRadius");
+    }
+
     public int getMaxMineCount() {
         return mMaxMineCount;
     }
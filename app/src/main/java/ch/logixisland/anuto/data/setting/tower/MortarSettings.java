@@ -3,6 +3,8 @@ package ch.logixisland.anuto.data.setting.tower;
 import org.simpleframework.xml.Element;
 import org.simpleframework.xml.Root;
 
+import ch.logixisland.anuto.data.DataNode;
+
 @Root
 public class MortarSettings extends BasicTowerSettings {
 
@@ -15,6 +17,20 @@ public class MortarSettings extends BasicTowerSettings {
     @Element(name = "enhanceExplosionRadius")
     private float mEnhanceExplosionRadius;
 
+    public static MortarSettings fromNode(DataNode node) {
+        MortarSettings settings = new MortarSettings();
+        settings.readNode(node);
+        return settings;
+    }
+
+    @Override
+    protected void readNode(DataNode node) {
+        super.readNode(node);
+        mInaccuracy = node.getFloat("inaccuracy");
+        mExplosionRadius = node.getFloat("explosionRadius");
+        mEnhanceExplosionRadius = node.getFloat("enhanceExplosionRadius");
+    }
+
     public float getInaccuracy() {
         return mInaccuracy;
     }
@@ -3,6 +3,8 @@ package ch.logixisland.anuto.data.setting.tower;
 import org.simpleframework.xml.Element;
 import org.simpleframework.xml.Root;
 
+import ch.logixisland.anuto.data.DataNode;
+
 @Root
 public class RocketLauncherSettings extends BasicTowerSettings {
 
@@ -12,6 +14,19 @@ public class RocketLauncherSettings extends BasicTowerSettings {
     @Element(name = "enhanceExplosionRadius")
     private float mEnhanceExplosionRadius;
 
+    public static RocketLauncherSettings fromNode(DataNode node) {
+        RocketLauncherSettings settings = new RocketLauncherSettings();
+        settings.readNode(node);
+        return settings;
+    }
+
+    @Override
+    protected void readNode(DataNode node) {
+        super.readNode(node);
+        mExplosionRadius = node.getFloat("explosionRadius");
+        mEnhanceExplosionRadius = node.getFloat("enhanceExplosionRadius");
+    }
+
     public float getExplosionRadius() {
         return mExplosionRadius;
     }
@@ -3,6 +3,8 @@ package ch.logixisland.anuto.data.setting.tower;
 import org.simpleframework.xml.Element;
 import org.simpleframework.xml.Root;
 
+import ch.logixisland.anuto.data.DataNode;
+
 @Root
 public class TeleporterSettings extends BasicTowerSettings {
 
@@ -12,6 +14,19 @@ public class TeleporterSettings extends BasicTowerSettings {
     @Element(name = "enhanceTeleportDistance")
     private float mEnhanceTeleportDistance;
 
+    public static TeleporterSettings fromNode(DataNode node) {
+        TeleporterSettings settings = new TeleporterSettings();
+        settings.readNode(node);
+        return settings;
+    }
+
+    @Override
+    protected void readNode(DataNode node) {
+        super.readNode(node);
+        mTeleportDistance = node.getFloat("teleportDistance");
+        mEnhanceTeleportDistance = node.getFloat("enhanceTeleportDistance");
+    }
+
     public float getTeleportDistance() {
         return mTeleportDistance;
     }
@@ -8,6 +8,8 @@ import org.simpleframework.xml.Serializer;
 
 import java.io.InputStream;
 
+import ch.logixisland.anuto.data.DataNode;
+
 @Root
 public class TowerSettings {
 
@@ -63,6 +65,25 @@ public class TowerSettings {
         }
     }
 
+    public static TowerSettings fromNode(DataNode node) {
+        TowerSettings settings = new TowerSettings();
+        settings.mAgeModifier = node.getFloat("ageModifier");
+        settings.mTowerSlots = TowerSlots.fromNode(node.requireChild("slots"));
+        settings.mCanonSettings = BasicTowerSettings.fromNode(node.requireChild("canon"));
+        settings.mDualCanonSettings = BasicTowerSettings.fromNode(node.requireChild("dualCanon"));
+        settings.mMachineGunSettings = BasicTowerSettings.fromNode(node.requireChild("machineGun"));
+        settings.mSimpleLaserSettings = BasicTowerSettings.fromNode(node.requireChild("simpleLaser"));
+        settings.mBouncingLaserSettings = BouncingLaserSettings.fromNode(node.requireChild("bouncingLaser"));
+        settings.mStraightLaserSettings = BasicTowerSettings.fromNode(node.requireChild("straightLaser"));
+        settings.mMortarSettings = MortarSettings.fromNode(node.requireChild("mortar"));
+        settings.mMineLayerSettings = MineLayerSettings.fromNode(node.requireChild("mineLayer"));
+        settings.mRocketLauncherSettings = RocketLauncherSettings.fromNode(node.requireChild("rocketLauncher"));
+        settings.mGlueTowerSettings = GlueTowerSettings.fromNode(node.requireChild("glueTower"));
+        settings.mGlueGunSettings = GlueGunSettings.fromNode(node.requireChild("glueGun"));
+        settings.mTeleporterSettings = TeleporterSettings.fromNode(node.requireChild("teleporter"));
+        return settings;
+    }
+
     public float getAgeModifier() {
         return mAgeModifier;
     }
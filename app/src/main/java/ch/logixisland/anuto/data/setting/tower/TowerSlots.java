@@ -6,12 +6,24 @@ import org.simpleframework.xml.Root;
 import java.util.HashMap;
 import java.util.Map;
 
+import ch.logixisland.anuto.data.DataNode;
+
 @Root
 public class TowerSlots {
 
     @ElementMap(entry = "slot", key = "index", attribute = true, inline = true)
     private Map<Integer, String> mSlotMap = new HashMap<>();
 
+    public static TowerSlots fromNode(DataNode node) {
+        TowerSlots slots = new TowerSlots();
+
+        for (DataNode slot : node.getChildren("slot")) {
+            slots.mSlotMap.put(Integer.parseInt(slot.getAttribute("index")), slot.getText());
+        }
+
+        return slots;
+    }
+
     public String getTowerOfSlot(int slot) {
         if (!mSlotMap.containsKey(slot)) {
             return null;
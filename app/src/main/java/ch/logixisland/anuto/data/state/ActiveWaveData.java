@@ -24,6 +24,15 @@ public class ActiveWaveData {
     @Element(name = "enemyRewardModifier")
     private float mEnemyRewardModifier;
 
+    @Element(name = "spawnIndex", required = false)
+    private int mSpawnIndex = -1;
+
+    @Element(name = "spawnTickCount", required = false)
+    private int mSpawnTickCount;
+
+    @Element(name = "spawnOffset", required = false)
+    private float mSpawnOffset;
+
     public int getWaveNumber() {
         return mWaveNumber;
     }
@@ -71,4 +80,28 @@ public class ActiveWaveData {
     public void setEnemyRewardModifier(float enemyRewardModifier) {
         mEnemyRewardModifier = enemyRewardModifier;
     }
+
+    public int getSpawnIndex() {
+        return mSpawnIndex;
+    }
+
+    public void setSpawnIndex(int spawnIndex) {
+        mSpawnIndex = spawnIndex;
+    }
+
+    public int getSpawnTickCount() {
+        return mSpawnTickCount;
+    }
+
+    public void setSpawnTickCount(int spawnTickCount) {
+        mSpawnTickCount = spawnTickCount;
+    }
+
+    public float getSpawnOffset() {
+        return mSpawnOffset;
+    }
+
+    public void setSpawnOffset(float spawnOffset) {
+        mSpawnOffset = spawnOffset;
+    }
 }
@@ -0,0 +1,361 @@
+package ch.logixisland.anuto.data.state;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import ch.logixisland.anuto.util.math.Vector2;
+
+public class BinaryGameState {
+
+    private final static int MAGIC = 0x414e5356;
+    private final static int VERSION = 3;
+
+    private final static int ENTITY_PLATEAU = 0;
+    private final static int ENTITY_ENEMY = 1;
+    private final static int ENTITY_TOWER = 2;
+
+    private final static Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static class Writer {
+        private final ByteArrayOutputStream mBuffer = new ByteArrayOutputStream();
+        private final DataOutputStream mOutput = new DataOutputStream(mBuffer);
+        private final Map<String, Integer> mStringIndices = new HashMap<>();
+        private final List<String> mStrings = new ArrayList<>();
+
+        void writeInt(int value) throws IOException {
+            writeVarInt(mOutput, (value << 1) ^ (value >> 31));
+        }
+
+        void writeCount(int value) throws IOException {
+            writeVarInt(mOutput, value);
+        }
+
+        void writeFloat(float value) throws IOException {
+            mOutput.writeFloat(value);
+        }
+
+        void writeLong(long value) throws IOException {
+            mOutput.writeLong(value);
+        }
+
+        void writeBoolean(boolean value) throws IOException {
+            mOutput.writeByte(value ? 1 : 0);
+        }
+
+        void writeString(String value) throws IOException {
+            if (value == null) {
+                writeVarInt(mOutput, 0);
+                return;
+            }
+
+            Integer index = mStringIndices.get(value);
+
+            if (index == null) {
+                index = mStrings.size();
+                mStrings.add(value);
+                mStringIndices.put(value, index);
+            }
+
+            writeVarInt(mOutput, index + 1);
+        }
+
+        void writeTo(OutputStream outputStream) throws IOException {
+            DataOutputStream output = new DataOutputStream(outputStream);
+            output.writeInt(MAGIC);
+            output.writeByte(VERSION);
+            writeVarInt(output, mStrings.size());
+
+            for (String string : mStrings) {
+                byte[] bytes = string.getBytes(UTF_8);
+                writeVarInt(output, bytes.length);
+                output.write(bytes);
+            }
+
+            mOutput.flush();
+            mBuffer.writeTo(output);
+            output.flush();
+        }
+    }
+
+    private static class Reader {
+        private final ByteBuffer mBuffer;
+        private String[] mStrings;
+
+        Reader(ByteBuffer buffer) {
+            mBuffer = buffer;
+        }
+
+        void readStringTable() {
+            mStrings = new String[readCount()];
+
+            for (int i = 0; i < mStrings.length; i++) {
+                byte[] bytes = new byte[readCount()];
+                mBuffer.get(bytes);
+                mStrings[i] = new String(bytes, UTF_8);
+            }
+        }
+
+        int readInt() {
+            int value = readCount();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        int readCount() {
+            int value = 0;
+            int shift = 0;
+            int b;
+
+            do {
+                b = mBuffer.get() & 0xff;
+                value |= (b & 0x7f) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+
+            return value;
+        }
+
+        float readFloat() {
+            return mBuffer.getFloat();
+        }
+
+        long readLong() {
+            return mBuffer.getLong();
+        }
+
+        boolean readBoolean() {
+            return mBuffer.get() != 0;
+        }
+
+        String readString() {
+            int index = readCount();
+            return index > 0 ? mStrings[index - 1] : null;
+        }
+    }
+
+    private BinaryGameState() {
+    }
+
+    public static void write(GameState gameState, OutputStream outputStream) throws IOException {
+        Writer writer = new Writer();
+
+        writer.writeInt(gameState.getAppVersion());
+        writer.writeString(gameState.getMapId());
+        writer.writeInt(gameState.getCredits());
+        writer.writeInt(gameState.getLives());
+        writer.writeInt(gameState.getTickCount());
+        writer.writeInt(gameState.getNextEntityId());
+        writer.writeInt(gameState.getWaveNumber());
+        writer.writeInt(gameState.getCreditsEarned());
+
+        writer.writeBoolean(gameState.hasRandomState());
+        if (gameState.hasRandomState()) {
+            writer.writeLong(gameState.getRandomSeed());
+            writer.writeLong(gameState.getRandomState0());
+            writer.writeLong(gameState.getRandomState1());
+        }
+
+        writer.writeCount(gameState.getActiveWaveData().size());
+        for (ActiveWaveData data : gameState.getActiveWaveData()) {
+            writer.writeInt(data.getWaveNumber());
+            writer.writeInt(data.getWaveStartTickCount());
+            writer.writeInt(data.getExtend());
+            writer.writeInt(data.getWaveReward());
+            writer.writeFloat(data.getEnemyHealthModifier());
+            writer.writeFloat(data.getEnemyRewardModifier());
+            writer.writeInt(data.getSpawnIndex());
+            writer.writeInt(data.getSpawnTickCount());
+            writer.writeFloat(data.getSpawnOffset());
+        }
+
+        writer.writeCount(gameState.getEntityData().size());
+        for (EntityData data : gameState.getEntityData()) {
+            writeEntity(writer, data);
+        }
+
+        writer.writeTo(outputStream);
+    }
+
+    public static GameState read(ByteBuffer buffer) throws IOException {
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("Not a binary game state!");
+        }
+
+        if ((buffer.get() & 0xff) != VERSION) {
+            throw new IOException("Unsupported game state version!");
+        }
+
+        Reader reader = new Reader(buffer);
+        reader.readStringTable();
+
+        GameState gameState = new GameState();
+        gameState.setAppVersion(reader.readInt());
+        gameState.setMapId(reader.readString());
+        gameState.setCredits(reader.readInt());
+        gameState.setLives(reader.readInt());
+        gameState.setTickCount(reader.readInt());
+        gameState.setNextEntityId(reader.readInt());
+        gameState.setWaveNumber(reader.readInt());
+        gameState.setCreditsEarned(reader.readInt());
+
+        if (reader.readBoolean()) {
+            gameState.setRandomSeed(reader.readLong());
+            long state0 = reader.readLong();
+            long state1 = reader.readLong();
+            gameState.setRandomState(state0, state1);
+        }
+
+        int activeWaveCount = reader.readCount();
+        for (int i = 0; i < activeWaveCount; i++) {
+            ActiveWaveData data = new ActiveWaveData();
+            data.setWaveNumber(reader.readInt());
+            data.setWaveStartTickCount(reader.readInt());
+            data.setExtend(reader.readInt());
+            data.setWaveReward(reader.readInt());
+            data.setEnemyHealthModifier(reader.readFloat());
+            data.setEnemyRewardModifier(reader.readFloat());
+            data.setSpawnIndex(reader.readInt());
+            data.setSpawnTickCount(reader.readInt());
+            data.setSpawnOffset(reader.readFloat());
+            gameState.addActiveWaveData(data);
+        }
+
+        int entityCount = reader.readCount();
+        for (int i = 0; i < entityCount; i++) {
+            gameState.addEntityData(readEntity(reader));
+        }
+
+        return gameState;
+    }
+
+    private static void writeEntity(Writer writer, EntityData data) throws IOException {
+        if (data instanceof EnemyData) {
+            writer.writeCount(ENTITY_ENEMY);
+        } else if (data instanceof TowerData) {
+            writer.writeCount(ENTITY_TOWER);
+        } else if (data instanceof PlateauData) {
+            writer.writeCount(ENTITY_PLATEAU);
+        } else {
+            throw new RuntimeException("Unknown entity data type!");
+        }
+
+        writer.writeInt(data.getId());
+        writer.writeString(data.getName());
+        writer.writeFloat(data.getPosition().x());
+        writer.writeFloat(data.getPosition().y());
+
+        if (data instanceof EnemyData) {
+            EnemyData enemyData = (EnemyData) data;
+            writer.writeInt(enemyData.getWaveNumber());
+            writer.writeInt(enemyData.getReward());
+            writer.writeFloat(enemyData.getHealth());
+            writer.writeFloat(enemyData.getMaxHealth());
+            writer.writeInt(enemyData.getPathIndex());
+            writer.writeFloat(enemyData.getPathDistance());
+        }
+
+        if (data instanceof TowerData) {
+            TowerData towerData = (TowerData) data;
+            writer.writeInt(towerData.getPlateauId());
+            writer.writeInt(towerData.getValue());
+            writer.writeInt(towerData.getLevel());
+            writer.writeFloat(towerData.getDamageInflicted());
+            writer.writeString(towerData.getStrategy());
+            writer.writeBoolean(towerData.isLockTarget());
+            writer.writeCount(towerData.getDetails().size());
+
+            for (Map.Entry<String, String> detail : towerData.getDetails().entrySet()) {
+                writer.writeString(detail.getKey());
+                writer.writeString(detail.getValue());
+            }
+
+            float[] positions = towerData.getPositions();
+            writer.writeCount(positions != null ? positions.length : 0);
+
+            if (positions != null) {
+                for (float position : positions) {
+                    writer.writeFloat(position);
+                }
+            }
+        }
+    }
+
+    private static EntityData readEntity(Reader reader) throws IOException {
+        int type = reader.readCount();
+        EntityData data;
+
+        switch (type) {
+            case ENTITY_PLATEAU:
+                data = new PlateauData();
+                break;
+
+            case ENTITY_ENEMY:
+                data = new EnemyData();
+                break;
+
+            case ENTITY_TOWER:
+                data = new TowerData();
+                break;
+
+            default:
+                throw new IOException("Unknown entity data type!");
+        }
+
+        data.setId(reader.readInt());
+        data.setName(reader.readString());
+        float x = reader.readFloat();
+        float y = reader.readFloat();
+        data.setPosition(new Vector2(x, y));
+
+        if (type == ENTITY_ENEMY) {
+            EnemyData enemyData = (EnemyData) data;
+            enemyData.setWaveNumber(reader.readInt());
+            enemyData.setReward(reader.readInt());
+            enemyData.setHealth(reader.readFloat());
+            enemyData.setMaxHealth(reader.readFloat());
+            enemyData.setPathIndex(reader.readInt());
+            enemyData.setPathDistance(reader.readFloat());
+        }
+
+        if (type == ENTITY_TOWER) {
+            TowerData towerData = (TowerData) data;
+            towerData.setPlateauId(reader.readInt());
+            towerData.setValue(reader.readInt());
+            towerData.setLevel(reader.readInt());
+            towerData.setDamageInflicted(reader.readFloat());
+            towerData.setStrategy(reader.readString());
+            towerData.setLockTarget(reader.readBoolean());
+
+            int detailCount = reader.readCount();
+            for (int i = 0; i < detailCount; i++) {
+                String key = reader.readString();
+                String value = reader.readString();
+                towerData.addDetail(key, value);
+            }
+
+            float[] positions = new float[reader.readCount()];
+            for (int i = 0; i < positions.length; i++) {
+                positions[i] = reader.readFloat();
+            }
+            towerData.setPositions(positions);
+        }
+
+        return data;
+    }
+
+    private static void writeVarInt(DataOutputStream output, int value) throws IOException {
+        while ((value & ~0x7f) != 0) {
+            output.writeByte((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+
+        output.writeByte(value);
+    }
+}
@@ -22,12 +22,18 @@ public class EnemyData extends EntityData {
     @Element(name = "maxHealth")
     private float mMaxHealth;
 
-    @ElementList(name = "wayPoints", entry = "wayPoint")
+    @ElementList(name = "wayPoints", entry = "wayPoint", required = false)
     private List<Vector2> mWayPoints = new ArrayList<>();
 
-    @Element(name = "wayPointIndex")
+    @Element(name = "wayPointIndex", required = false)
     private int mWayPointIndex;
 
+    @Element(name = "pathIndex", required = false)
+    private int mPathIndex = -1;
+
+    @Element(name = "pathDistance", required = false)
+    private float mPathDistance;
+
     public int getWaveNumber() {
         return mWaveNumber;
     }
@@ -75,4 +81,20 @@ public class EnemyData extends EntityData {
     public void setWayPointIndex(int wayPointIndex) {
         mWayPointIndex = wayPointIndex;
     }
+
+    public int getPathIndex() {
+        return mPathIndex;
+    }
+
+    public void setPathIndex(int pathIndex) {
+        mPathIndex = pathIndex;
+    }
+
+    public float getPathDistance() {
+        return mPathDistance;
+    }
+
+    public void setPathDistance(float pathDistance) {
+        mPathDistance = pathDistance;
+    }
 }
@@ -34,6 +34,15 @@ public class GameState {
     @Element(name = "creditsEarned")
     private int mCreditsEarned;
 
+    @Element(name = "randomSeed", required = false)
+    private Long mRandomSeed;
+
+    @Element(name = "randomState0", required = false)
+    private Long mRandomState0;
+
+    @Element(name = "randomState1", required = false)
+    private Long mRandomState1;
+
     @ElementList(entry = "activeWave", inline = true, required = false)
     private List<ActiveWaveData> mActiveWaveData = new ArrayList<>();
 
@@ -108,6 +117,31 @@ public class GameState {
         mCreditsEarned = creditsEarned;
     }
 
+    public boolean hasRandomState() {
+        return mRandomSeed != null && mRandomState0 != null && mRandomState1 != null;
+    }
+
+    public long getRandomSeed() {
+        return mRandomSeed;
+    }
+
+    public void setRandomSeed(long randomSeed) {
+        mRandomSeed = randomSeed;
+    }
+
+    public long getRandomState0() {
+        return mRandomState0;
+    }
+
+    public long getRandomState1() {
+        return mRandomState1;
+    }
+
+    public void setRandomState(long state0, long state1) {
+        mRandomState0 = state0;
+        mRandomState1 = state1;
+    }
+
     public List<ActiveWaveData> getActiveWaveData() {
         return Collections.unmodifiableList(mActiveWaveData);
     }
@@ -1,6 +1,7 @@
 package ch.logixisland.anuto.data.state;
 
 import org.simpleframework.xml.Element;
+import org.simpleframework.xml.ElementArray;
 import org.simpleframework.xml.ElementMap;
 
 import java.util.HashMap;
@@ -29,6 +30,9 @@ public class TowerData extends EntityData {
     @ElementMap(name = "details", attribute = true)
     private Map<String, String> mDetails = new HashMap<>();
 
+    @ElementArray(name = "positions", required = false)
+    private float[] mPositions;
+
     public int getPlateauId() {
         return mPlateauId;
     }
@@ -84,4 +88,16 @@ public class TowerData extends EntityData {
     public void addDetail(String key, String value) {
         mDetails.put(key, value);
     }
+
+    public float[] getPositions() {
+        return mPositions;
+    }
+
+    public void setPositions(float[] positions) {
+        mPositions = positions;
+    }
+
+    Map<String, String> getDetails() {
+        return mDetails;
+    }
 }
@@ -3,6 +3,8 @@ package ch.logixisland.anuto.data.wave;
 import org.simpleframework.xml.Attribute;
 import org.simpleframework.xml.Root;
 
+import ch.logixisland.anuto.data.DataNode;
+
 @Root
 public class EnemyInfo {
 
@@ -18,6 +20,15 @@ public class EnemyInfo {
     @Attribute(name = "offset", required = false)
     private float mOffset;
 
+    public static EnemyInfo fromNode(DataNode node) {
+        EnemyInfo info = new EnemyInfo();
+        info.mName = node.getAttribute("name");
+        info.mPathIndex = node.getIntAttribute("pathIndex", 0);
+        info.mDelay = node.getFloatAttribute("delay", 0f);
+        info.mOffset = node.getFloatAttribute("offset", 0f);
+        return info;
+    }
+
     public String getName() {
         return mName;
     }
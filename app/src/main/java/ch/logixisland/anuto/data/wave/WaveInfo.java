@@ -8,6 +8,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import ch.logixisland.anuto.data.DataNode;
+
 @Root
 public class WaveInfo {
 
@@ -23,6 +25,19 @@ public class WaveInfo {
     @Element(name = "maxExtend", required = false)
     private int mMaxExtend = 0;
 
+    public static WaveInfo fromNode(DataNode node) {
+        WaveInfo info = new WaveInfo();
+        info.mWaveReward = node.getInt("waveReward", 0);
+        info.mExtend = node.getInt("extend", 0);
+        info.mMaxExtend = node.getInt("maxExtend", 0);
+
+        for (DataNode enemy : node.requireChild("enemies").getChildren("enemy")) {
+            info.mEnemies.add(EnemyInfo.fromNode(enemy));
+        }
+
+        return info;
+    }
+
     public List<EnemyInfo> getEnemies() {
         return Collections.unmodifiableList(mEnemies);
     }
@@ -10,6 +10,8 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 
+import ch.logixisland.anuto.data.DataNode;
+
 @Root
 public final class WaveInfoList {
 
@@ -29,4 +31,14 @@ public final class WaveInfoList {
         }
     }
 
+    public static List<WaveInfo> fromNode(DataNode node) {
+        List<WaveInfo> waves = new ArrayList<>();
+
+        for (DataNode wave : node.getChildren("wave")) {
+            waves.add(WaveInfo.fromNode(wave));
+        }
+
+        return waves;
+    }
+
 }
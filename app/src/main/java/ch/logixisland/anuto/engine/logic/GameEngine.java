@@ -1,11 +1,17 @@
 package ch.logixisland.anuto.engine.logic;
 
+import java.util.List;
+
 import ch.logixisland.anuto.engine.logic.entity.Entity;
+import ch.logixisland.anuto.engine.logic.entity.EntityRegistry;
 import ch.logixisland.anuto.engine.logic.entity.EntityStore;
+import ch.logixisland.anuto.engine.logic.entity.StaticDataProvider;
 import ch.logixisland.anuto.engine.logic.loop.GameLoop;
 import ch.logixisland.anuto.engine.logic.loop.Message;
+import ch.logixisland.anuto.engine.logic.loop.MessageInbox;
 import ch.logixisland.anuto.engine.logic.loop.MessageQueue;
 import ch.logixisland.anuto.engine.logic.loop.TickListener;
+import ch.logixisland.anuto.engine.logic.loop.Tracer;
 import ch.logixisland.anuto.engine.render.Drawable;
 import ch.logixisland.anuto.engine.render.Renderer;
 import ch.logixisland.anuto.engine.render.sprite.SpriteFactory;
@@ -24,21 +30,27 @@ public class GameEngine {
 
     private final EntityStore mEntityStore;
     private final MessageQueue mMessageQueue;
+    private final MessageInbox mMessageInbox;
     private final Renderer mRenderer;
     private final GameLoop mGameLoop;
+    private final RandomSource mRandomSource;
 
+    private EntityRegistry mEntityRegistry;
     private GameConfiguration mGameConfiguration;
 
     public GameEngine(SpriteFactory spriteFactory, ThemeManager themeManager,
                       SoundFactory soundFactory, EntityStore entityStore, MessageQueue messageQueue,
-                      Renderer renderer, GameLoop gameLoop) {
+                      MessageInbox messageInbox, Renderer renderer, GameLoop gameLoop,
+                      RandomSource randomSource) {
         mSpriteFactory = spriteFactory;
         mThemeManager = themeManager;
         mSoundFactory = soundFactory;
         mEntityStore = entityStore;
         mMessageQueue = messageQueue;
+        mMessageInbox = messageInbox;
         mRenderer = renderer;
         mGameLoop = gameLoop;
+        mRandomSource = randomSource;
     }
 
     public SpriteFactory getSpriteFactory() {
@@ -53,10 +65,34 @@ public class GameEngine {
         return mSoundFactory;
     }
 
+    public Tracer getTracer() {
+        return mGameLoop.getTracer();
+    }
+
+    public RandomSource getRandom() {
+        return mRandomSource;
+    }
+
+    public void setSeed(long seed) {
+        mRandomSource.setSeed(seed);
+    }
+
     public Object getStaticData(Entity entity) {
         return mEntityStore.getStaticData(entity);
     }
 
+    public Object getStaticData(Class<?> key, StaticDataProvider provider) {
+        return mEntityStore.getStaticData(key, provider);
+    }
+
+    public void setEntityRegistry(EntityRegistry entityRegistry) {
+        mEntityRegistry = entityRegistry;
+    }
+
+    public Entity createEntity(String name) {
+        return mEntityRegistry.createEntity(name);
+    }
+
     public StreamIterator<Entity> getAllEntities() {
         return mEntityStore.getAll();
     }
@@ -69,6 +105,22 @@ public class GameEngine {
         return mEntityStore.getById(entityId);
     }
 
+    public StreamIterator<Entity> getEntitiesInRange(int typeId, Vector2 center, float range) {
+        return mEntityStore.getInRange(typeId, center, range);
+    }
+
+    public List<Entity> getEntitiesInRange(int typeId, Vector2 center, float range, List<Entity> result) {
+        return mEntityStore.getInRange(typeId, center, range, result);
+    }
+
+    public Entity getNearestEntity(int typeId, Vector2 center) {
+        return mEntityStore.getNearest(typeId, center);
+    }
+
+    public void setParallelSense(boolean parallelSense) {
+        mEntityStore.setParallelSense(parallelSense);
+    }
+
     public void add(Entity entity) {
         mEntityStore.add(entity);
     }
@@ -95,9 +147,11 @@ public class GameEngine {
 
     public void clear() {
         mMessageQueue.clear();
+        mMessageInbox.clear();
         mEntityStore.clear();
         mRenderer.clear();
         mGameLoop.clear();
+        mRandomSource.clear();
     }
 
     public void start() {
@@ -113,7 +167,7 @@ public class GameEngine {
     }
 
     public void post(Message message) {
-        mMessageQueue.post(message);
+        mMessageInbox.post(message);
     }
 
     public void postDelayed(Message message, float delay) {
@@ -128,6 +182,19 @@ public class GameEngine {
         mGameLoop.setTicksPerLoop(ticksPerLoop);
     }
 
+    public boolean isHeadless() {
+        return mGameLoop.isHeadless();
+    }
+
+    public void setHeadless(boolean headless) {
+        mGameLoop.setHeadless(headless);
+        mSoundFactory.setMuted(headless);
+    }
+
+    public void runTicks(int tickCount) {
+        mGameLoop.runTicks(tickCount);
+    }
+
     public boolean isThreadChangeNeeded() {
         return mGameLoop.isThreadChangeNeeded();
     }
@@ -136,12 +203,17 @@ public class GameEngine {
         return mRenderer.isPositionVisible(position);
     }
 
+    public boolean isPositionVisible(float x, float y) {
+        return mRenderer.isPositionVisible(x, y);
+    }
+
     public GameConfiguration getGameConfiguration() {
         return mGameConfiguration;
     }
 
     public void setGameConfiguration(GameConfiguration gameConfiguration) {
         mGameConfiguration = gameConfiguration;
+        mEntityStore.setGridSize(gameConfiguration.getGameMap().getWidth(), gameConfiguration.getGameMap().getHeight());
     }
 
 }
@@ -0,0 +1,88 @@
+package ch.logixisland.anuto.engine.logic;
+
+import ch.logixisland.anuto.data.state.GameState;
+import ch.logixisland.anuto.engine.logic.persistence.Persister;
+
+public class RandomSource implements Persister {
+
+    private long mSeed;
+    private long mState0;
+    private long mState1;
+
+    public RandomSource() {
+        setSeed(System.nanoTime());
+    }
+
+    public long getSeed() {
+        return mSeed;
+    }
+
+    public void setSeed(long seed) {
+        mSeed = seed;
+        mState0 = mix(seed + 0x9E3779B97F4A7C15L);
+        mState1 = mix(seed + 0x3C6EF372FE94F82AL);
+    }
+
+    public void clear() {
+        setSeed(System.nanoTime());
+    }
+
+    public long nextLong() {
+        long s0 = mState0;
+        long s1 = mState1;
+        long result = s0 + s1;
+
+        s1 ^= s0;
+        mState0 = Long.rotateLeft(s0, 24) ^ s1 ^ (s1 << 16);
+        mState1 = Long.rotateLeft(s1, 37);
+
+        return result;
+    }
+
+    public int next(int max) {
+        if (max <= 0) {
+            throw new RuntimeException("Bound must be positive!");
+        }
+
+        return (int) (((nextLong() >>> 32) * max) >>> 32);
+    }
+
+    public int next(int min, int max) {
+        return next(max - min) + min;
+    }
+
+    public float next(float max) {
+        return nextFloat() * max;
+    }
+
+    public float next(float min, float max) {
+        return nextFloat() * (max - min) + min;
+    }
+
+    private float nextFloat() {
+        return (nextLong() >>> 40) * 0x1.0p-24f;
+    }
+
+    @Override
+    public void writeState(GameState gameState) {
+        gameState.setRandomSeed(mSeed);
+        gameState.setRandomState(mState0, mState1);
+    }
+
+    @Override
+    public void readState(GameState gameState) {
+        if (!gameState.hasRandomState()) {
+            return;
+        }
+
+        mSeed = gameState.getRandomSeed();
+        mState0 = gameState.getRandomState0();
+        mState1 = gameState.getRandomState1();
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -4,15 +4,17 @@ import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import ch.logixisland.anuto.engine.logic.GameEngine;
+import ch.logixisland.anuto.engine.logic.RandomSource;
 import ch.logixisland.anuto.engine.render.sprite.SpriteFactory;
 import ch.logixisland.anuto.engine.sound.SoundFactory;
 import ch.logixisland.anuto.engine.theme.Theme;
-import ch.logixisland.anuto.util.iterator.Function;
+import ch.logixisland.anuto.util.iterator.FloatFunction;
 import ch.logixisland.anuto.util.iterator.Predicate;
 import ch.logixisland.anuto.util.math.MathUtils;
+import ch.logixisland.anuto.util.math.MutableVector2;
 import ch.logixisland.anuto.util.math.Vector2;
 
-public abstract class Entity {
+public abstract class Entity implements StaticDataProvider {
 
     public interface Listener {
         void entityRemoved(Entity entity);
@@ -32,7 +34,7 @@ public abstract class Entity {
             @Override
             public boolean apply(Entity entity) {
                 Vector2 line = p1.to(p2);
-                Vector2 toObj = p1.to(entity.mPosition);
+                Vector2 toObj = p1.to(entity.getPosition());
                 Vector2 proj = toObj.proj(line);
 
                 // check whether object is after line end
@@ -60,10 +62,10 @@ public abstract class Entity {
         };
     }
 
-    public static Function<Entity, Float> distanceTo(final Vector2 toPoint) {
-        return new Function<Entity, Float>() {
+    public static FloatFunction<Entity> distanceTo(final Vector2 toPoint) {
+        return new FloatFunction<Entity>() {
             @Override
-            public Float apply(Entity input) {
+            public float apply(Entity input) {
                 return input.getDistanceTo(toPoint);
             }
         };
@@ -73,7 +75,13 @@ public abstract class Entity {
     private final List<Listener> mListeners = new CopyOnWriteArrayList<>();
 
     private int mEntityId;
-    private Vector2 mPosition = new Vector2();
+    private final MutableVector2 mPosition = new MutableVector2();
+    private Vector2 mPositionValue;
+
+    private EntityGrid mGrid;
+    private int mGridCell = -1;
+    private EntityPool mPool;
+    private boolean mAdded;
 
     protected Entity(GameEngine gameEngine) {
         mGameEngine = gameEngine;
@@ -83,6 +91,31 @@ public abstract class Entity {
         mEntityId = entityId;
     }
 
+    void setGrid(EntityGrid grid, int gridCell) {
+        mGrid = grid;
+        mGridCell = gridCell;
+    }
+
+    int getGridCell() {
+        return mGridCell;
+    }
+
+    void setAdded(boolean added) {
+        mAdded = added;
+    }
+
+    void setPool(EntityPool pool) {
+        mPool = pool;
+    }
+
+    EntityPool getPool() {
+        return mPool;
+    }
+
+    public boolean isAdded() {
+        return mAdded;
+    }
+
     public int getEntityId() {
         return mEntityId;
     }
@@ -93,6 +126,7 @@ public abstract class Entity {
         return null;
     }
 
+    @Override
     public Object initStatic() {
         return null;
     }
@@ -107,10 +141,20 @@ public abstract class Entity {
         }
     }
 
+    public void reset() {
+        mListeners.clear();
+        mPosition.set(0f, 0f);
+        mPositionValue = null;
+    }
+
     public void remove() {
         getGameEngine().remove(this);
     }
 
+    public void sense() {
+
+    }
+
     public void tick() {
 
     }
@@ -123,6 +167,10 @@ public abstract class Entity {
         return mGameEngine;
     }
 
+    protected RandomSource getRandom() {
+        return getGameEngine().getRandom();
+    }
+
     protected SpriteFactory getSpriteFactory() {
         return getGameEngine().getSpriteFactory();
     }
@@ -136,43 +184,86 @@ public abstract class Entity {
     }
 
     public Vector2 getPosition() {
-        return mPosition;
+        if (mPositionValue == null) {
+            mPositionValue = mPosition.toVector2();
+        }
+
+        return mPositionValue;
+    }
+
+    public float getPositionX() {
+        return mPosition.x();
+    }
+
+    public float getPositionY() {
+        return mPosition.y();
+    }
+
+    public MutableVector2 copyPosition(MutableVector2 result) {
+        return result.set(mPosition);
     }
 
     public void setPosition(Vector2 position) {
-        mPosition = position;
+        setPosition(position.x(), position.y());
+    }
+
+    public void setPosition(float x, float y) {
+        mPosition.set(x, y);
+        mPositionValue = null;
+
+        if (mGrid != null) {
+            mGrid.update(this);
+        }
     }
 
     public void move(Vector2 offset) {
-        mPosition = mPosition.add(offset);
+        move(offset.x(), offset.y());
+    }
+
+    public void move(float dx, float dy) {
+        mPosition.addInPlace(dx, dy);
+        mPositionValue = null;
+
+        if (mGrid != null) {
+            mGrid.update(this);
+        }
+    }
+
+    public void moveTowards(float x, float y, float maxStep) {
+        mPosition.moveTowards(x, y, maxStep);
+        mPositionValue = null;
+
+        if (mGrid != null) {
+            mGrid.update(this);
+        }
     }
 
     public float getDistanceTo(Entity target) {
-        return getDistanceTo(target.mPosition);
+        return mPosition.distanceTo(target.mPosition.x(), target.mPosition.y());
     }
 
     public float getDistanceTo(Vector2 target) {
-        return mPosition.to(target).len();
+        return mPosition.distanceTo(target.x(), target.y());
     }
 
     public Vector2 getDirectionTo(Entity target) {
-        return getDirectionTo(target.mPosition);
+        return getDirectionTo(target.getPosition());
     }
 
     public Vector2 getDirectionTo(Vector2 target) {
-        return mPosition.to(target).norm();
+        return getPosition().to(target).norm();
     }
 
     public float getAngleTo(Entity target) {
-        return getAngleTo(target.mPosition);
+        return getAngleTo(target.getPosition());
     }
 
     public float getAngleTo(Vector2 target) {
-        return mPosition.to(target).angle();
+        return getPosition().to(target).angle();
     }
 
     public boolean isPositionVisible() {
-        return getGameEngine().isPositionVisible(mPosition);
+        return getGameEngine().isPositionVisible(mPosition.x(), mPosition.y());
     }
 
     public void addListener(Listener listener) {
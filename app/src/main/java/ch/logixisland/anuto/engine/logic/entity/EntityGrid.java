@@ -0,0 +1,160 @@
+package ch.logixisland.anuto.engine.logic.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import ch.logixisland.anuto.util.math.Vector2;
+
+class EntityGrid {
+
+    private int mWidth;
+    private int mHeight;
+    private List<Entity>[] mCells;
+
+    EntityGrid() {
+        resize(1, 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    void resize(int width, int height) {
+        List<Entity> entities = new ArrayList<>();
+
+        if (mCells != null) {
+            for (List<Entity> cell : mCells) {
+                entities.addAll(cell);
+            }
+        }
+
+        mWidth = Math.max(width, 1);
+        mHeight = Math.max(height, 1);
+        mCells = new List[mWidth * mHeight];
+
+        for (int i = 0; i < mCells.length; i++) {
+            mCells[i] = new ArrayList<>();
+        }
+
+        for (Entity entity : entities) {
+            add(entity);
+        }
+    }
+
+    void add(Entity entity) {
+        int cell = cellOf(entity.getPositionX(), entity.getPositionY());
+        mCells[cell].add(entity);
+        entity.setGrid(this, cell);
+    }
+
+    void remove(Entity entity) {
+        if (entity.getGridCell() < 0) {
+            return;
+        }
+
+        mCells[entity.getGridCell()].remove(entity);
+        entity.setGrid(null, -1);
+    }
+
+    void update(Entity entity) {
+        int cell = cellOf(entity.getPositionX(), entity.getPositionY());
+
+        if (cell != entity.getGridCell()) {
+            mCells[entity.getGridCell()].remove(entity);
+            mCells[cell].add(entity);
+            entity.setGrid(this, cell);
+        }
+    }
+
+    void clear() {
+        for (List<Entity> cell : mCells) {
+            for (Entity entity : cell) {
+                entity.setGrid(null, -1);
+            }
+
+            cell.clear();
+        }
+    }
+
+    List<Entity> getInRange(Vector2 center, float range, List<Entity> result) {
+        int x1 = columnOf(center.x() - range);
+        int x2 = columnOf(center.x() + range);
+        int y1 = rowOf(center.y() - range);
+        int y2 = rowOf(center.y() + range);
+
+        for (int y = y1; y <= y2; y++) {
+            for (int x = x1; x <= x2; x++) {
+                for (Entity entity : mCells[y * mWidth + x]) {
+                    if (entity.getDistanceTo(center) <= range) {
+                        result.add(entity);
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    Entity getNearest(Vector2 center) {
+        int cx = columnOf(center.x());
+        int cy = rowOf(center.y());
+        int maxRing = Math.max(mWidth, mHeight);
+
+        Entity nearest = null;
+        float nearestDistance = Float.MAX_VALUE;
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int y = cy - ring; y <= cy + ring; y++) {
+                if (y < 0 || y >= mHeight) {
+                    continue;
+                }
+
+                boolean edgeRow = y == cy - ring || y == cy + ring;
+                int step = edgeRow ? 1 : Math.max(2 * ring, 1);
+
+                for (int x = cx - ring; x <= cx + ring; x += step) {
+                    if (x < 0 || x >= mWidth) {
+                        continue;
+                    }
+
+                    for (Entity entity : mCells[y * mWidth + x]) {
+                        float distance = entity.getDistanceTo(center);
+
+                        if (distance < nearestDistance) {
+                            nearest = entity;
+                            nearestDistance = distance;
+                        }
+                    }
+                }
+            }
+
+            // all remaining cells are at least ring tiles away
+            if (nearest != null && nearestDistance <= ring) {
+                break;
+            }
+        }
+
+        return nearest;
+    }
+
+    private int cellOf(float x, float y) {
+        return rowOf(y) * mWidth + columnOf(x);
+    }
+
+    private int columnOf(float x) {
+        return clamp(Math.round(x), mWidth);
+    }
+
+    private int rowOf(float y) {
+        return clamp(Math.round(y), mHeight);
+    }
+
+    private static int clamp(int value, int size) {
+        if (value < 0) {
+            return 0;
+        }
+
+        if (value >= size) {
+            return size - 1;
+        }
+
+        return value;
+    }
+}
@@ -0,0 +1,21 @@
+package ch.logixisland.anuto.engine.logic.entity;
+
+import java.util.ArrayDeque;
+
+class EntityPool {
+
+    private final ArrayDeque<Entity> mEntities = new ArrayDeque<>();
+
+    Entity acquire() {
+        return mEntities.poll();
+    }
+
+    void release(Entity entity) {
+        entity.reset();
+        mEntities.push(entity);
+    }
+
+    void clear() {
+        mEntities.clear();
+    }
+}
@@ -11,6 +11,7 @@ public class EntityRegistry implements Persister {
 
     private final GameEngine mGameEngine;
     private final Map<String, EntityFactory> mEntityFactories = new HashMap<>();
+    private final Map<String, EntityPool> mEntityPools = new HashMap<>();
 
     private int mNextEntityId = 1;
 
@@ -22,12 +23,24 @@ public class EntityRegistry implements Persister {
         mEntityFactories.put(factory.getEntityName(), factory);
     }
 
+    public void registerPooledEntity(EntityFactory factory) {
+        registerEntity(factory);
+        mEntityPools.put(factory.getEntityName(), new EntityPool());
+    }
+
     public Entity createEntity(String name) {
         return createEntity(name, mNextEntityId++);
     }
 
     public Entity createEntity(String name, int id) {
-        Entity entity = mEntityFactories.get(name).create(mGameEngine);
+        EntityPool pool = mEntityPools.get(name);
+        Entity entity = pool != null ? pool.acquire() : null;
+
+        if (entity == null) {
+            entity = mEntityFactories.get(name).create(mGameEngine);
+            entity.setPool(pool);
+        }
+
         entity.setEntityId(id);
         return entity;
     }
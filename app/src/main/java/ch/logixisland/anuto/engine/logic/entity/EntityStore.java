@@ -2,24 +2,114 @@ package ch.logixisland.anuto.engine.logic.entity;
 
 import android.util.SparseArray;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
+import ch.logixisland.anuto.engine.logic.loop.TickProfiler;
 import ch.logixisland.anuto.util.container.SafeMultiMap;
+import ch.logixisland.anuto.util.iterator.LazyIterator;
 import ch.logixisland.anuto.util.iterator.StreamIterator;
+import ch.logixisland.anuto.util.math.Vector2;
 
 public class EntityStore {
 
+    private class QueryIterator extends LazyIterator<Entity> {
+        private final List<Entity> mResult = new ArrayList<>();
+        private int mNextIndex = 0;
+        private boolean mOpen = false;
+
+        private void open() {
+            reset();
+            mNextIndex = 0;
+            mOpen = true;
+        }
+
+        @Override
+        protected Entity fetchNext() {
+            if (mNextIndex < mResult.size()) {
+                return mResult.get(mNextIndex++);
+            }
+
+            close();
+            return null;
+        }
+
+        @Override
+        public void close() {
+            if (mOpen) {
+                mOpen = false;
+                mResult.clear();
+                mQueryPool.push(this);
+            }
+        }
+    }
+
+    private class SenseTask implements Callable<Void> {
+        private int mStart;
+        private int mEnd;
+
+        @Override
+        public Void call() {
+            for (int i = mStart; i < mEnd; i++) {
+                mSenseEntities.get(i).sense();
+            }
+
+            return null;
+        }
+    }
+
+    private final static int PARALLEL_SENSE_THRESHOLD = 64;
+    private final static int SENSE_THREAD_COUNT = Runtime.getRuntime().availableProcessors();
+
+    private static ExecutorService sSenseExecutor;
+
+    private final TickProfiler mTickProfiler;
     private final SafeMultiMap<Entity> mEntities = new SafeMultiMap<>();
     private final SparseArray<Entity> mEntityIdMap = new SparseArray<>();
-    private final Map<Class<? extends Entity>, Object> mStaticData = new HashMap<>();
+    private final Map<Class<?>, Object> mStaticData = new HashMap<>();
+    private final SparseArray<EntityGrid> mGrids = new SparseArray<>();
+    private final ArrayDeque<QueryIterator> mQueryPool = new ArrayDeque<>();
+    private final List<Entity> mReleasedEntities = new ArrayList<>();
+    private final List<EntityPool> mEntityPools = new ArrayList<>();
+    private final List<Entity> mSenseEntities = new ArrayList<>();
+    private final List<SenseTask> mSenseTasks = new ArrayList<>();
+    private boolean mParallelSense;
+
+    public EntityStore(TickProfiler tickProfiler) {
+        mTickProfiler = tickProfiler;
+    }
+
+    public void addSpatialIndex(int typeId) {
+        if (mGrids.get(typeId) == null) {
+            mGrids.put(typeId, new EntityGrid());
+        }
+    }
+
+    public void setGridSize(int width, int height) {
+        for (int i = 0; i < mGrids.size(); i++) {
+            mGrids.valueAt(i).resize(width, height);
+        }
+    }
 
     public Object getStaticData(Entity entity) {
-        if (!mStaticData.containsKey(entity.getClass())) {
-            mStaticData.put(entity.getClass(), entity.initStatic());
+        return getStaticData(entity.getClass(), entity);
+    }
+
+    public Object getStaticData(Class<?> key, StaticDataProvider provider) {
+        if (!mStaticData.containsKey(key)) {
+            mStaticData.put(key, provider.initStatic());
         }
 
-        return mStaticData.get(entity.getClass());
+        return mStaticData.get(key);
     }
 
     public StreamIterator<Entity> getAll() {
@@ -34,30 +124,193 @@ public class EntityStore {
         return mEntityIdMap.get(entityId);
     }
 
+    public List<Entity> getInRange(int typeId, Vector2 center, float range, List<Entity> result) {
+        EntityGrid grid = mGrids.get(typeId);
+
+        if (grid == null) {
+            throw new RuntimeException("Entity type has no spatial index!");
+        }
+
+        return grid.getInRange(center, range, result);
+    }
+
+    public StreamIterator<Entity> getInRange(int typeId, Vector2 center, float range) {
+        EntityGrid grid = mGrids.get(typeId);
+
+        if (grid == null) {
+            return getByType(typeId).filter(Entity.inRange(center, range));
+        }
+
+        QueryIterator iterator = mQueryPool.poll();
+
+        if (iterator == null) {
+            iterator = new QueryIterator();
+        }
+
+        grid.getInRange(center, range, iterator.mResult);
+        iterator.open();
+        return iterator;
+    }
+
+    public Entity getNearest(int typeId, Vector2 center) {
+        EntityGrid grid = mGrids.get(typeId);
+
+        if (grid == null) {
+            return getByType(typeId).minBy(Entity.distanceTo(center));
+        }
+
+        return grid.getNearest(center);
+    }
+
     public void add(Entity entity) {
         mEntities.add(entity.getEntityType(), entity);
         mEntityIdMap.put(entity.getEntityId(), entity);
+        entity.setAdded(true);
+
+        EntityGrid grid = mGrids.get(entity.getEntityType());
+        if (grid != null) {
+            grid.add(entity);
+        }
+
         entity.init();
     }
 
     public void remove(Entity entity) {
-        mEntities.remove(entity.getEntityType(), entity);
+        if (!mEntities.remove(entity.getEntityType(), entity)) {
+            return;
+        }
+
+        entity.setAdded(false);
+
         mEntityIdMap.remove(entity.getEntityId());
+
+        EntityGrid grid = mGrids.get(entity.getEntityType());
+        if (grid != null) {
+            grid.remove(entity);
+        }
+
         entity.clean();
+
+        if (entity.getPool() != null) {
+            mReleasedEntities.add(entity);
+        }
+    }
+
+    public void setParallelSense(boolean parallelSense) {
+        mParallelSense = parallelSense;
+
+        if (parallelSense && mSenseTasks.isEmpty()) {
+            for (int i = 0; i < SENSE_THREAD_COUNT; i++) {
+                mSenseTasks.add(new SenseTask());
+            }
+        }
     }
 
     public void tick() {
-        for (Entity entity : mEntities) {
-            entity.tick();
+        boolean profiling = mTickProfiler.isEnabled();
+        long senseStartTime = profiling ? System.nanoTime() : 0;
+
+        if (mParallelSense && mEntityIdMap.size() >= PARALLEL_SENSE_THRESHOLD) {
+            senseParallel();
+        } else {
+            for (Entity entity : mEntities) {
+                entity.sense();
+            }
         }
+
+        if (profiling) {
+            mTickProfiler.addTime(TickProfiler.SENSE, System.nanoTime() - senseStartTime);
+            tickProfiled();
+        } else {
+            for (Entity entity : mEntities) {
+                entity.tick();
+            }
+        }
+
+        mEntities.compact();
+        releaseEntities();
     }
 
     public void clear() {
         for (Entity entity : mEntities) {
             mEntities.remove(entity.getEntityType(), entity);
+            entity.setAdded(false);
             entity.clean();
         }
 
+        for (int i = 0; i < mGrids.size(); i++) {
+            mGrids.valueAt(i).clear();
+        }
+
         mStaticData.clear();
+        mReleasedEntities.clear();
+
+        for (EntityPool pool : mEntityPools) {
+            pool.clear();
+        }
+    }
+
+    private void tickProfiled() {
+        for (Entity entity : mEntities) {
+            long startTime = System.nanoTime();
+            entity.tick();
+            mTickProfiler.addEntityTime(entity.getEntityType(), entity.getClass(), System.nanoTime() - startTime);
+        }
+
+        mTickProfiler.commitEntityTimes();
+    }
+
+    private void senseParallel() {
+        for (Entity entity : mEntities) {
+            mSenseEntities.add(entity);
+        }
+
+        int taskCount = mSenseTasks.size();
+        int chunkSize = (mSenseEntities.size() + taskCount - 1) / taskCount;
+
+        for (int i = 0; i < taskCount; i++) {
+            SenseTask task = mSenseTasks.get(i);
+            task.mStart = Math.min(i * chunkSize, mSenseEntities.size());
+            task.mEnd = Math.min(task.mStart + chunkSize, mSenseEntities.size());
+        }
+
+        try {
+            for (Future<Void> future : getSenseExecutor().invokeAll(mSenseTasks)) {
+                future.get();
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException("Error in sense phase!", e);
+        } finally {
+            mSenseEntities.clear();
+        }
+    }
+
+    private static synchronized ExecutorService getSenseExecutor() {
+        if (sSenseExecutor == null) {
+            sSenseExecutor = Executors.newFixedThreadPool(SENSE_THREAD_COUNT, new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "EntitySense");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+
+        return sSenseExecutor;
+    }
+
+    private void releaseEntities() {
+        for (Entity entity : mReleasedEntities) {
+            EntityPool pool = entity.getPool();
+
+            if (!mEntityPools.contains(pool)) {
+                mEntityPools.add(pool);
+            }
+
+            pool.release(entity);
+        }
+
+        mReleasedEntities.clear();
     }
 }
@@ -2,8 +2,6 @@ package ch.logixisland.anuto.engine.logic.loop;
 
 import android.util.Log;
 
-import java.util.Collection;
-
 import ch.logixisland.anuto.engine.logic.entity.EntityStore;
 import ch.logixisland.anuto.engine.render.Renderer;
 import ch.logixisland.anuto.util.container.SafeCollection;
@@ -16,25 +14,40 @@ public class GameLoop implements Runnable {
     private final static int TICK_TIME = 1000 / TARGET_FRAME_RATE;
     private final static int MAX_FRAME_SKIPS = 1;
 
+    private final static String TRACE_CYCLE = "GameLoop.executeCycle";
+    private final static String TRACE_TICK = "GameLoop.executeTick";
+    private final static String TRACE_MESSAGES = "MessageQueue.processMessages";
+    private final static String TRACE_ENTITIES = "EntityStore.tick";
+
     private final Renderer mRenderer;
-    private final FrameRateLogger mFrameRateLogger;
+    private final TickProfiler mTickProfiler;
+    private final Tracer mTracer;
     private final MessageQueue mMessageQueue;
+    private final MessageInbox mMessageInbox;
     private final EntityStore mEntityStore;
 
-    private final Collection<TickListener> mTickListeners = new SafeCollection<>();
+    private final SafeCollection<TickListener> mTickListeners = new SafeCollection<>();
 
     private int mGameTicksPerLoop = 1;
 
     private Thread mGameThread;
     private volatile boolean mRunning = false;
+    private volatile boolean mHeadless = false;
 
-    public GameLoop(Renderer renderer, FrameRateLogger frameRateLogger, MessageQueue messageQueue, EntityStore entityStore) {
+    public GameLoop(Renderer renderer, TickProfiler tickProfiler, Tracer tracer, MessageQueue messageQueue,
+                    MessageInbox messageInbox, EntityStore entityStore) {
         mRenderer = renderer;
-        mFrameRateLogger = frameRateLogger;
+        mTickProfiler = tickProfiler;
+        mTracer = tracer;
         mMessageQueue = messageQueue;
+        mMessageInbox = messageInbox;
         mEntityStore = entityStore;
     }
 
+    public Tracer getTracer() {
+        return mTracer;
+    }
+
     public void add(TickListener listener) {
         mTickListeners.add(listener);
     }
@@ -73,6 +86,32 @@ public class GameLoop implements Runnable {
         mGameTicksPerLoop = ticksPerLoop;
     }
 
+    public boolean isHeadless() {
+        return mHeadless;
+    }
+
+    public void setHeadless(boolean headless) {
+        mHeadless = headless;
+    }
+
+    public void runTicks(int tickCount) {
+        if (mRunning) {
+            throw new RuntimeException("Game loop is already running!");
+        }
+
+        mGameThread = Thread.currentThread();
+
+        try {
+            for (int i = 0; i < tickCount; i++) {
+                mMessageInbox.processMessages();
+                executeTick();
+                processMessages();
+            }
+        } finally {
+            mGameThread = null;
+        }
+    }
+
     public boolean isThreadChangeNeeded() {
         return Thread.currentThread() != mGameThread;
     }
@@ -86,6 +125,10 @@ public class GameLoop implements Runnable {
             while (mRunning) {
                 executeCycle();
 
+                if (mHeadless) {
+                    continue;
+                }
+
                 timeNextTick += TICK_TIME;
                 int sleepTime = (int) (timeNextTick - System.currentTimeMillis());
 
@@ -104,7 +147,8 @@ public class GameLoop implements Runnable {
             }
 
             // process messages a last time (needed to save game just before loop stops)
-            mMessageQueue.processMessages();
+            mMessageInbox.processMessages();
+            processMessages();
         } catch (Exception e) {
             mRunning = false;
             throw new RuntimeException("Error in game loop!", e);
@@ -112,24 +156,74 @@ public class GameLoop implements Runnable {
     }
 
     private void executeCycle() {
-        mRenderer.lock();
+        mTracer.begin(TRACE_CYCLE);
+        executeTicks();
+
+        if (!mHeadless) {
+            mRenderer.publishSnapshot();
+        }
+
+        mTickProfiler.incrementLoopCount();
+        mTickProfiler.outputStatistics();
+        mTracer.end(TRACE_CYCLE);
+    }
+
+    private void executeTicks() {
+        mMessageInbox.processMessages();
+
         for (int i = 0; i < mGameTicksPerLoop; i++) {
             executeTick();
-            mMessageQueue.processMessages();
+            processMessages();
         }
-        mRenderer.unlock();
-
-        mFrameRateLogger.incrementLoopCount();
-        mFrameRateLogger.outputFrameRate();
     }
 
     private void executeTick() {
+        mTracer.begin(TRACE_TICK);
+
+        if (mTickProfiler.isEnabled()) {
+            executeProfiledTick();
+        } else {
+            mMessageQueue.tick();
+            tickEntities();
+
+            for (TickListener listener : mTickListeners) {
+                listener.tick();
+            }
+        }
+
+        mTickListeners.compact();
+        mTracer.end(TRACE_TICK);
+    }
+
+    private void executeProfiledTick() {
+        long startTime = System.nanoTime();
         mMessageQueue.tick();
-        mEntityStore.tick();
 
+        long messagesTime = System.nanoTime();
+        tickEntities();
+
+        long entitiesTime = System.nanoTime();
         for (TickListener listener : mTickListeners) {
             listener.tick();
         }
+
+        long endTime = System.nanoTime();
+        mTickProfiler.addTime(TickProfiler.MESSAGES, messagesTime - startTime);
+        mTickProfiler.addTime(TickProfiler.ENTITIES, entitiesTime - messagesTime);
+        mTickProfiler.addTime(TickProfiler.TICK_LISTENERS, endTime - entitiesTime);
+        mTickProfiler.addTime(TickProfiler.TICK, endTime - startTime);
+    }
+
+    private void tickEntities() {
+        mTracer.begin(TRACE_ENTITIES);
+        mEntityStore.tick();
+        mTracer.end(TRACE_ENTITIES);
+    }
+
+    private void processMessages() {
+        mTracer.begin(TRACE_MESSAGES);
+        mMessageQueue.processMessages();
+        mTracer.end(TRACE_MESSAGES);
     }
 
 }
@@ -0,0 +1,25 @@
+package ch.logixisland.anuto.engine.logic.loop;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class MessageInbox {
+
+    private final Queue<Message> mMessages = new ConcurrentLinkedQueue<>();
+
+    public void post(Message message) {
+        mMessages.offer(message);
+    }
+
+    public void clear() {
+        mMessages.clear();
+    }
+
+    public void processMessages() {
+        Message message;
+
+        while ((message = mMessages.poll()) != null) {
+            message.execute();
+        }
+    }
+}
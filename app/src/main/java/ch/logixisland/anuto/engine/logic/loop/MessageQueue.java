@@ -1,58 +1,98 @@
 package ch.logixisland.anuto.engine.logic.loop;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
 
 import ch.logixisland.anuto.data.state.GameState;
 import ch.logixisland.anuto.engine.logic.persistence.Persister;
 
 public class MessageQueue implements Persister {
 
+    private final static int WHEEL_SIZE = 256;
+    private final static int WHEEL_MASK = WHEEL_SIZE - 1;
+
     private static class MessageEntry {
         private final Message mMessage;
         private final long mDueTickCount;
+        private final long mSequence;
 
-        MessageEntry(Message message, long dueTickCount) {
+        MessageEntry(Message message, long dueTickCount, long sequence) {
             mMessage = message;
             mDueTickCount = dueTickCount;
+            mSequence = sequence;
         }
     }
 
-    private final ArrayList<MessageEntry> mQueue = new ArrayList<>();
-    private int mTickCount = 0;
+    private static final Comparator<MessageEntry> ENTRY_ORDER = new Comparator<MessageEntry>() {
+        @Override
+        public int compare(MessageEntry e1, MessageEntry e2) {
+            if (e1.mDueTickCount != e2.mDueTickCount) {
+                return e1.mDueTickCount < e2.mDueTickCount ? -1 : 1;
+            }
+
+            if (e1.mSequence != e2.mSequence) {
+                return e1.mSequence < e2.mSequence ? -1 : 1;
+            }
+
+            return 0;
+        }
+    };
+
+    private final ArrayDeque<MessageEntry>[] mWheel;
+    private final PriorityQueue<MessageEntry> mOverflow = new PriorityQueue<>(16, ENTRY_ORDER);
+
+    private volatile int mTickCount = 0;
+    private long mCursor = 0;
+    private long mNextSequence = 0;
+
+    @SuppressWarnings("unchecked")
+    public MessageQueue() {
+        mWheel = new ArrayDeque[WHEEL_SIZE];
+
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            mWheel[i] = new ArrayDeque<>();
+        }
+    }
 
     public int getTickCount() {
         return mTickCount;
     }
 
-    public synchronized void post(Message message) {
-        postAfterTicks(message, 0);
+    public void postAfterTicks(Message message, int ticks) {
+        insert(new MessageEntry(message, (long) mTickCount + ticks, mNextSequence++));
     }
 
-    public synchronized void postAfterTicks(Message message, int ticks) {
-        long dueTickCount = mTickCount + ticks;
-
-        for (int i = 0; i < mQueue.size(); i++) {
-            if (dueTickCount < mQueue.get(i).mDueTickCount) {
-                mQueue.add(i, new MessageEntry(message, dueTickCount));
-                return;
-            }
+    public void clear() {
+        for (ArrayDeque<MessageEntry> slot : mWheel) {
+            slot.clear();
         }
 
-        mQueue.add(new MessageEntry(message, dueTickCount));
+        mOverflow.clear();
     }
 
-    public synchronized void clear() {
-        mQueue.clear();
-    }
-
-    public synchronized void tick() {
+    public void tick() {
         mTickCount++;
     }
 
-    public synchronized void processMessages() {
-        while (!mQueue.isEmpty() && mTickCount >= mQueue.get(0).mDueTickCount) {
-            MessageEntry messageEntry = mQueue.remove(0);
-            messageEntry.mMessage.execute();
+    public void processMessages() {
+        while (true) {
+            MessageEntry messageEntry = mWheel[slotOf(mCursor)].pollFirst();
+
+            if (messageEntry != null) {
+                messageEntry.mMessage.execute();
+                continue;
+            }
+
+            if (mCursor >= mTickCount) {
+                break;
+            }
+
+            mCursor++;
+            fetchOverflow();
         }
     }
 
@@ -63,6 +103,46 @@ public class MessageQueue implements Persister {
 
     @Override
     public void readState(GameState gameState) {
+        List<MessageEntry> entries = removeAll();
+
         mTickCount = gameState.getTickCount();
+        mCursor = mTickCount;
+
+        for (MessageEntry entry : entries) {
+            insert(entry);
+        }
+    }
+
+    private void insert(MessageEntry entry) {
+        if (entry.mDueTickCount <= mCursor) {
+            mWheel[slotOf(mCursor)].addLast(entry);
+        } else if (entry.mDueTickCount < mCursor + WHEEL_SIZE) {
+            mWheel[slotOf(entry.mDueTickCount)].addLast(entry);
+        } else {
+            mOverflow.add(entry);
+        }
+    }
+
+    private void fetchOverflow() {
+        while (!mOverflow.isEmpty() && mOverflow.peek().mDueTickCount < mCursor + WHEEL_SIZE) {
+            MessageEntry entry = mOverflow.poll();
+            mWheel[slotOf(entry.mDueTickCount)].addLast(entry);
+        }
+    }
+
+    private List<MessageEntry> removeAll() {
+        List<MessageEntry> entries = new ArrayList<>(mOverflow);
+
+        for (ArrayDeque<MessageEntry> slot : mWheel) {
+            entries.addAll(slot);
+        }
+
+        clear();
+        Collections.sort(entries, ENTRY_ORDER);
+        return entries;
+    }
+
+    private static int slotOf(long tickCount) {
+        return (int) (tickCount & WHEEL_MASK);
     }
 }
@@ -0,0 +1,184 @@
+package ch.logixisland.anuto.engine.logic.loop;
+
+import android.util.Log;
+import android.util.SparseArray;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TickProfiler {
+
+    private static final String TAG = TickProfiler.class.getSimpleName();
+
+    private static final int LOG_INTERVAL = 5000;
+
+    public final static String TICK = "tick";
+    public final static String MESSAGES = "tick/messages";
+    public final static String SENSE = "tick/sense";
+    public final static String ENTITIES = "tick/entities";
+    public final static String TICK_LISTENERS = "tick/listeners";
+    public final static String SNAPSHOT = "snapshot";
+    public final static String RENDER = "render";
+
+    private final AtomicInteger mLoopCount = new AtomicInteger();
+    private final AtomicInteger mRenderCount = new AtomicInteger();
+    private final ConcurrentMap<String, TimingHistogram> mHistograms = new ConcurrentHashMap<>();
+
+    private final SparseArray<TimingHistogram> mTypeHistograms = new SparseArray<>();
+    private final Map<Class<?>, TimingHistogram> mClassHistograms = new HashMap<>();
+    private final List<TimingHistogram> mTouchedEntityHistograms = new ArrayList<>();
+
+    private final SparseArray<TimingHistogram> mLayerHistograms = new SparseArray<>();
+    private final List<TimingHistogram> mTouchedLayerHistograms = new ArrayList<>();
+
+    private volatile boolean mEnabled;
+    private long mLastOutputTime;
+
+    public boolean isEnabled() {
+        return mEnabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        mEnabled = enabled;
+    }
+
+    public void incrementLoopCount() {
+        mLoopCount.incrementAndGet();
+    }
+
+    public void incrementRenderCount() {
+        mRenderCount.incrementAndGet();
+    }
+
+    public void outputStatistics() {
+        long currentTime = System.currentTimeMillis();
+        long sinceLastOutput = currentTime - mLastOutputTime;
+
+        if (sinceLastOutput >= LOG_INTERVAL) {
+            long loopCount = mLoopCount.getAndSet(0);
+            long renderCount = mRenderCount.getAndSet(0);
+
+            loopCount = loopCount * 1000 / sinceLastOutput;
+            renderCount = renderCount * 1000 / sinceLastOutput;
+            Log.d(TAG, String.format("loop: %1$sHz; render: %2$sHz", loopCount, renderCount));
+
+            mLastOutputTime = currentTime;
+        }
+    }
+
+    public void addTime(String section, long nanos) {
+        getHistogram(section, true).addSample(nanos);
+    }
+
+    public void addEntityTime(int typeId, Class<?> entityClass, long nanos) {
+        TimingHistogram typeHistogram = mTypeHistograms.get(typeId);
+        if (typeHistogram == null) {
+            typeHistogram = getHistogram(ENTITIES + "/type" + typeId, true);
+            mTypeHistograms.put(typeId, typeHistogram);
+        }
+
+        TimingHistogram classHistogram = mClassHistograms.get(entityClass);
+        if (classHistogram == null) {
+            classHistogram = getHistogram(ENTITIES + "/" + entityClass.getSimpleName(), true);
+            mClassHistograms.put(entityClass, classHistogram);
+        }
+
+        if (typeHistogram.accumulate(nanos)) {
+            mTouchedEntityHistograms.add(typeHistogram);
+        }
+
+        if (classHistogram.accumulate(nanos)) {
+            mTouchedEntityHistograms.add(classHistogram);
+        }
+    }
+
+    public void commitEntityTimes() {
+        for (int i = 0; i < mTouchedEntityHistograms.size(); i++) {
+            mTouchedEntityHistograms.get(i).commit();
+        }
+
+        mTouchedEntityHistograms.clear();
+    }
+
+    public void addLayerTime(int layer, long nanos) {
+        TimingHistogram histogram = mLayerHistograms.get(layer);
+        if (histogram == null) {
+            histogram = getHistogram(RENDER + "/layer" + layer, true);
+            mLayerHistograms.put(layer, histogram);
+        }
+
+        if (histogram.accumulate(nanos)) {
+            mTouchedLayerHistograms.add(histogram);
+        }
+    }
+
+    public void commitLayerTimes() {
+        for (int i = 0; i < mTouchedLayerHistograms.size(); i++) {
+            mTouchedLayerHistograms.get(i).commit();
+        }
+
+        mTouchedLayerHistograms.clear();
+    }
+
+    public TimingHistogram getHistogram(String section) {
+        return getHistogram(section, false);
+    }
+
+    public List<String> getSections() {
+        List<String> sections = new ArrayList<>(mHistograms.keySet());
+        Collections.sort(sections);
+        return sections;
+    }
+
+    public void reset() {
+        for (TimingHistogram histogram : mHistograms.values()) {
+            histogram.reset();
+        }
+    }
+
+    public String dump() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format(Locale.US, "%-40s %8s %8s %8s %8s %6s%n",
+                "section [us]", "p50", "p95", "p99", "max", "count"));
+
+        for (String section : getSections()) {
+            TimingHistogram histogram = mHistograms.get(section);
+            builder.append(String.format(Locale.US, "%-40s %8d %8d %8d %8d %6d%n", section,
+                    histogram.getPercentile(0.5f) / 1000,
+                    histogram.getPercentile(0.95f) / 1000,
+                    histogram.getPercentile(0.99f) / 1000,
+                    histogram.getMax() / 1000,
+                    histogram.getSampleCount()));
+        }
+
+        return builder.toString();
+    }
+
+    public void logReport() {
+        for (String line : dump().split("\n")) {
+            Log.d(TAG, line);
+        }
+    }
+
+    private TimingHistogram getHistogram(String section, boolean create) {
+        TimingHistogram histogram = mHistograms.get(section);
+
+        if (histogram == null && create) {
+            TimingHistogram created = new TimingHistogram(section);
+            histogram = mHistograms.putIfAbsent(section, created);
+
+            if (histogram == null) {
+                histogram = created;
+            }
+        }
+
+        return histogram;
+    }
+}
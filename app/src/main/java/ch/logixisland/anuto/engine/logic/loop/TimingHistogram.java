@@ -0,0 +1,79 @@
+package ch.logixisland.anuto.engine.logic.loop;
+
+import java.util.Arrays;
+
+public class TimingHistogram {
+
+    private final static int WINDOW_SIZE = 512;
+
+    private final String mName;
+    private final long[] mSamples = new long[WINDOW_SIZE];
+
+    private int mSampleCount;
+    private int mNextIndex;
+
+    private long mPending;
+    private boolean mTouched;
+
+    TimingHistogram(String name) {
+        mName = name;
+    }
+
+    public String getName() {
+        return mName;
+    }
+
+    public synchronized void addSample(long nanos) {
+        mSamples[mNextIndex] = nanos;
+        mNextIndex = (mNextIndex + 1) % WINDOW_SIZE;
+        mSampleCount = Math.min(mSampleCount + 1, WINDOW_SIZE);
+    }
+
+    public synchronized int getSampleCount() {
+        return mSampleCount;
+    }
+
+    public long getPercentile(float percentile) {
+        long[] samples = getSortedSamples();
+
+        if (samples.length == 0) {
+            return 0;
+        }
+
+        int index = (int) Math.ceil(percentile * samples.length) - 1;
+        return samples[Math.max(0, Math.min(index, samples.length - 1))];
+    }
+
+    public long getMax() {
+        long[] samples = getSortedSamples();
+        return samples.length > 0 ? samples[samples.length - 1] : 0;
+    }
+
+    public synchronized void reset() {
+        mSampleCount = 0;
+        mNextIndex = 0;
+    }
+
+    boolean accumulate(long nanos) {
+        mPending += nanos;
+
+        if (mTouched) {
+            return false;
+        }
+
+        mTouched = true;
+        return true;
+    }
+
+    void commit() {
+        addSample(mPending);
+        mPending = 0;
+        mTouched = false;
+    }
+
+    private synchronized long[] getSortedSamples() {
+        long[] samples = Arrays.copyOf(mSamples, mSampleCount);
+        Arrays.sort(samples);
+        return samples;
+    }
+}
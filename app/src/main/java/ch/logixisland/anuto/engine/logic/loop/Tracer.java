@@ -0,0 +1,167 @@
+package ch.logixisland.anuto.engine.logic.loop;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class Tracer {
+
+    private final static int DEFAULT_CAPACITY = 1 << 16;
+
+    private final static char PHASE_BEGIN = 'B';
+    private final static char PHASE_END = 'E';
+    private final static char PHASE_INSTANT = 'i';
+
+    private final int mMask;
+    private final long[] mTimestamps;
+    private final char[] mPhases;
+    private final String[] mNames;
+    private final long[] mThreadIds;
+    private final AtomicLongArray mSequences;
+    private final AtomicLong mEventCount = new AtomicLong();
+    private final Map<Long, String> mThreadNames = new ConcurrentHashMap<>();
+
+    private volatile boolean mEnabled;
+
+    public Tracer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public Tracer(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new RuntimeException("Trace capacity must be a power of two!");
+        }
+
+        mMask = capacity - 1;
+        mTimestamps = new long[capacity];
+        mPhases = new char[capacity];
+        mNames = new String[capacity];
+        mThreadIds = new long[capacity];
+        mSequences = new AtomicLongArray(capacity);
+
+        for (int i = 0; i < capacity; i++) {
+            mSequences.set(i, -1);
+        }
+    }
+
+    public boolean isEnabled() {
+        return mEnabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        mEnabled = enabled;
+    }
+
+    public void begin(String name) {
+        if (mEnabled) {
+            record(PHASE_BEGIN, name);
+        }
+    }
+
+    public void end(String name) {
+        if (mEnabled) {
+            record(PHASE_END, name);
+        }
+    }
+
+    public void instant(String name) {
+        if (mEnabled) {
+            record(PHASE_INSTANT, name);
+        }
+    }
+
+    public void clear() {
+        mEventCount.set(0);
+
+        for (int i = 0; i < mSequences.length(); i++) {
+            mSequences.set(i, -1);
+        }
+    }
+
+    public synchronized void write(OutputStream outputStream) throws IOException {
+        long end = mEventCount.get();
+        long start = Math.max(0, end - mTimestamps.length);
+        int capacity = (int) (end - start);
+
+        long[] timestamps = new long[capacity];
+        char[] phases = new char[capacity];
+        String[] names = new String[capacity];
+        long[] threadIds = new long[capacity];
+        int count = 0;
+
+        for (long i = start; i < end; i++) {
+            int slot = (int) (i & mMask);
+
+            if (mSequences.get(slot) != i) {
+                continue;
+            }
+
+            timestamps[count] = mTimestamps[slot];
+            phases[count] = mPhases[slot];
+            names[count] = mNames[slot];
+            threadIds[count] = mThreadIds[slot];
+
+            if (mSequences.get(slot) == i) {
+                count++;
+            }
+        }
+
+        Writer writer = new OutputStreamWriter(outputStream, "UTF-8");
+        boolean first = true;
+
+        writer.write("{\"traceEvents\":[\n");
+
+        for (int i = 0; i < count; i++) {
+            writeSeparator(writer, first);
+            first = false;
+            writer.write(String.format(Locale.US,
+                    "{\"name\":\"%s\",\"ph\":\"%c\",\"ts\":%.3f,\"pid\":1,\"tid\":%d%s}",
+                    escape(names[i]), phases[i], timestamps[i] / 1000.0, threadIds[i],
+                    phases[i] == PHASE_INSTANT ? ",\"s\":\"t\"" : ""));
+        }
+
+        for (Map.Entry<Long, String> entry : mThreadNames.entrySet()) {
+            writeSeparator(writer, first);
+            first = false;
+            writer.write(String.format(Locale.US,
+                    "{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":%d,\"args\":{\"name\":\"%s\"}}",
+                    entry.getKey(), escape(entry.getValue())));
+        }
+
+        writer.write("\n]}\n");
+        writer.flush();
+    }
+
+    private void record(char phase, String name) {
+        long sequence = mEventCount.getAndIncrement();
+        int slot = (int) (sequence & mMask);
+        Thread thread = Thread.currentThread();
+
+        if (!mThreadNames.containsKey(thread.getId())) {
+            mThreadNames.put(thread.getId(), thread.getName());
+        }
+
+        mSequences.set(slot, -1);
+        mTimestamps[slot] = System.nanoTime();
+        mPhases[slot] = phase;
+        mNames[slot] = name;
+        mThreadIds[slot] = thread.getId();
+        mSequences.set(slot, sequence);
+    }
+
+    private static void writeSeparator(Writer writer, boolean first) throws IOException {
+        if (!first) {
+            writer.write(",\n");
+        }
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -0,0 +1,387 @@
+package ch.logixisland.anuto.engine.render;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Matrix;
+import android.graphics.Paint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import ch.logixisland.anuto.engine.logic.loop.TickProfiler;
+
+class RecordingCanvas extends Canvas {
+
+    private final static int OP_SAVE = 0;
+    private final static int OP_RESTORE = 1;
+    private final static int OP_TRANSLATE = 2;
+    private final static int OP_ROTATE = 3;
+    private final static int OP_SCALE = 4;
+    private final static int OP_CONCAT = 5;
+    private final static int OP_DRAW_BITMAP = 6;
+    private final static int OP_DRAW_CIRCLE = 7;
+    private final static int OP_DRAW_LINE = 8;
+    private final static int OP_DRAW_RECT = 9;
+    private final static int OP_DRAW_TEXT = 10;
+
+    private final Map<Drawable, Integer> mDrawableIndices = new IdentityHashMap<>();
+    private final List<Paint> mPaints = new ArrayList<>();
+    private final List<Matrix> mMatrices = new ArrayList<>();
+
+    private Drawable[] mDrawables = new Drawable[64];
+    private int[] mDrawableOps = new int[64];
+    private int[] mDrawableFloats = new int[64];
+    private boolean[] mDrawableInterpolated = new boolean[64];
+    private int mDrawableCount;
+
+    private int[] mOps = new int[256];
+    private float[] mFloats = new float[1024];
+    private Object[] mObjects = new Object[512];
+
+    private int mOpCount;
+    private int mFloatCount;
+    private int mObjectCount;
+    private int mPaintCount;
+    private int mMatrixCount;
+    private int mSaveCount;
+    private long mTimestamp;
+
+    private RecordingCanvas mLerpSource;
+    private int mLerpOffset;
+    private float mLerpFactor;
+
+    long getTimestamp() {
+        return mTimestamp;
+    }
+
+    void setTimestamp(long timestamp) {
+        mTimestamp = timestamp;
+    }
+
+    void reset() {
+        Arrays.fill(mObjects, 0, mObjectCount, null);
+        Arrays.fill(mDrawables, 0, mDrawableCount, null);
+        mDrawableIndices.clear();
+
+        mDrawableCount = 0;
+        mOpCount = 0;
+        mFloatCount = 0;
+        mObjectCount = 0;
+        mPaintCount = 0;
+        mMatrixCount = 0;
+        mSaveCount = 0;
+    }
+
+    void beginDrawable(Drawable drawable, boolean interpolated) {
+        if (mDrawableCount == mDrawables.length) {
+            int size = mDrawables.length * 2;
+            mDrawables = Arrays.copyOf(mDrawables, size);
+            mDrawableOps = Arrays.copyOf(mDrawableOps, size);
+            mDrawableFloats = Arrays.copyOf(mDrawableFloats, size);
+            mDrawableInterpolated = Arrays.copyOf(mDrawableInterpolated, size);
+        }
+
+        mDrawables[mDrawableCount] = drawable;
+        mDrawableOps[mDrawableCount] = mOpCount;
+        mDrawableFloats[mDrawableCount] = mFloatCount;
+        mDrawableInterpolated[mDrawableCount] = interpolated;
+        mDrawableIndices.put(drawable, mDrawableCount);
+        mDrawableCount++;
+    }
+
+    void replay(Canvas canvas, RecordingCanvas previous, float factor, TickProfiler profiler) {
+        int objectIndex = 0;
+
+        for (int i = 0; i < mDrawableCount; i++) {
+            long startTime = profiler != null ? System.nanoTime() : 0;
+            int opStart = mDrawableOps[i];
+            int opEnd = getOpEnd(i);
+            mLerpSource = null;
+
+            if (previous != null && factor < 1f && mDrawableInterpolated[i]) {
+                Integer prevIndex = previous.mDrawableIndices.get(mDrawables[i]);
+
+                if (prevIndex != null && previous.hasSameOps(prevIndex, this, opStart, opEnd)) {
+                    mLerpSource = previous;
+                    mLerpOffset = previous.mDrawableFloats[prevIndex] - mDrawableFloats[i];
+                    mLerpFactor = factor;
+                }
+            }
+
+            objectIndex = replay(canvas, opStart, opEnd, mDrawableFloats[i], objectIndex);
+
+            if (profiler != null) {
+                profiler.addLayerTime(mDrawables[i].getLayer(), System.nanoTime() - startTime);
+            }
+        }
+
+        if (profiler != null) {
+            profiler.commitLayerTimes();
+        }
+
+        mLerpSource = null;
+    }
+
+    private int getOpEnd(int drawableIndex) {
+        if (drawableIndex + 1 < mDrawableCount) {
+            return mDrawableOps[drawableIndex + 1];
+        }
+
+        return mOpCount;
+    }
+
+    private boolean hasSameOps(int drawableIndex, RecordingCanvas other, int otherStart, int otherEnd) {
+        int start = mDrawableOps[drawableIndex];
+        int end = getOpEnd(drawableIndex);
+
+        if (end - start != otherEnd - otherStart) {
+            return false;
+        }
+
+        for (int i = 0; i < end - start; i++) {
+            if (mOps[start + i] != other.mOps[otherStart + i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private float getFloat(int index) {
+        float value = mFloats[index];
+
+        if (mLerpSource == null) {
+            return value;
+        }
+
+        float prevValue = mLerpSource.mFloats[index + mLerpOffset];
+        return prevValue + (value - prevValue) * mLerpFactor;
+    }
+
+    private float getAngle(int index) {
+        float value = mFloats[index];
+
+        if (mLerpSource == null) {
+            return value;
+        }
+
+        float prevValue = mLerpSource.mFloats[index + mLerpOffset];
+        float delta = (value - prevValue) % 360f;
+
+        if (delta > 180f) {
+            delta -= 360f;
+        } else if (delta < -180f) {
+            delta += 360f;
+        }
+
+        return prevValue + delta * mLerpFactor;
+    }
+
+    private int replay(Canvas canvas, int opStart, int opEnd, int floatIndex, int objectIndex) {
+        for (int i = opStart; i < opEnd; i++) {
+            switch (mOps[i]) {
+                case OP_SAVE:
+                    canvas.save();
+                    break;
+
+                case OP_RESTORE:
+                    canvas.restore();
+                    break;
+
+                case OP_TRANSLATE:
+                    canvas.translate(getFloat(floatIndex), getFloat(floatIndex + 1));
+                    floatIndex += 2;
+                    break;
+
+                case OP_ROTATE:
+                    canvas.rotate(getAngle(floatIndex));
+                    floatIndex += 1;
+                    break;
+
+                case OP_SCALE:
+                    canvas.scale(getFloat(floatIndex), getFloat(floatIndex + 1));
+                    floatIndex += 2;
+                    break;
+
+                case OP_CONCAT:
+                    canvas.concat((Matrix) mObjects[objectIndex]);
+                    objectIndex += 1;
+                    break;
+
+                case OP_DRAW_BITMAP:
+                    canvas.drawBitmap((Bitmap) mObjects[objectIndex], (Matrix) mObjects[objectIndex + 1],
+                            (Paint) mObjects[objectIndex + 2]);
+                    objectIndex += 3;
+                    break;
+
+                case OP_DRAW_CIRCLE:
+                    canvas.drawCircle(getFloat(floatIndex), getFloat(floatIndex + 1), getFloat(floatIndex + 2),
+                            (Paint) mObjects[objectIndex]);
+                    floatIndex += 3;
+                    objectIndex += 1;
+                    break;
+
+                case OP_DRAW_LINE:
+                    canvas.drawLine(getFloat(floatIndex), getFloat(floatIndex + 1), getFloat(floatIndex + 2),
+                            getFloat(floatIndex + 3), (Paint) mObjects[objectIndex]);
+                    floatIndex += 4;
+                    objectIndex += 1;
+                    break;
+
+                case OP_DRAW_RECT:
+                    canvas.drawRect(getFloat(floatIndex), getFloat(floatIndex + 1), getFloat(floatIndex + 2),
+                            getFloat(floatIndex + 3), (Paint) mObjects[objectIndex]);
+                    floatIndex += 4;
+                    objectIndex += 1;
+                    break;
+
+                case OP_DRAW_TEXT:
+                    canvas.drawText((String) mObjects[objectIndex], getFloat(floatIndex), getFloat(floatIndex + 1),
+                            (Paint) mObjects[objectIndex + 1]);
+                    floatIndex += 2;
+                    objectIndex += 2;
+                    break;
+
+                default:
+                    throw new RuntimeException("Unknown draw operation!");
+            }
+        }
+
+        return objectIndex;
+    }
+
+    @Override
+    public int save() {
+        addOp(OP_SAVE);
+        return mSaveCount++;
+    }
+
+    @Override
+    public void restore() {
+        addOp(OP_RESTORE);
+        mSaveCount--;
+    }
+
+    @Override
+    public void translate(float dx, float dy) {
+        addOp(OP_TRANSLATE);
+        addFloat(dx);
+        addFloat(dy);
+    }
+
+    @Override
+    public void rotate(float degrees) {
+        addOp(OP_ROTATE);
+        addFloat(degrees);
+    }
+
+    @Override
+    public void scale(float sx, float sy) {
+        addOp(OP_SCALE);
+        addFloat(sx);
+        addFloat(sy);
+    }
+
+    @Override
+    public void concat(Matrix matrix) {
+        addOp(OP_CONCAT);
+        addObject(copyMatrix(matrix));
+    }
+
+    @Override
+    public void drawBitmap(Bitmap bitmap, Matrix matrix, Paint paint) {
+        addOp(OP_DRAW_BITMAP);
+        addObject(bitmap);
+        addObject(copyMatrix(matrix));
+        addObject(copyPaint(paint));
+    }
+
+    @Override
+    public void drawCircle(float cx, float cy, float radius, Paint paint) {
+        addOp(OP_DRAW_CIRCLE);
+        addFloat(cx);
+        addFloat(cy);
+        addFloat(radius);
+        addObject(copyPaint(paint));
+    }
+
+    @Override
+    public void drawLine(float startX, float startY, float stopX, float stopY, Paint paint) {
+        addOp(OP_DRAW_LINE);
+        addFloat(startX);
+        addFloat(startY);
+        addFloat(stopX);
+        addFloat(stopY);
+        addObject(copyPaint(paint));
+    }
+
+    @Override
+    public void drawRect(float left, float top, float right, float bottom, Paint paint) {
+        addOp(OP_DRAW_RECT);
+        addFloat(left);
+        addFloat(top);
+        addFloat(right);
+        addFloat(bottom);
+        addObject(copyPaint(paint));
+    }
+
+    @Override
+    public void drawText(String text, float x, float y, Paint paint) {
+        addOp(OP_DRAW_TEXT);
+        addObject(text);
+        addFloat(x);
+        addFloat(y);
+        addObject(copyPaint(paint));
+    }
+
+    private void addOp(int op) {
+        if (mOpCount == mOps.length) {
+            mOps = Arrays.copyOf(mOps, mOps.length * 2);
+        }
+
+        mOps[mOpCount++] = op;
+    }
+
+    private void addFloat(float value) {
+        if (mFloatCount == mFloats.length) {
+            mFloats = Arrays.copyOf(mFloats, mFloats.length * 2);
+        }
+
+        mFloats[mFloatCount++] = value;
+    }
+
+    private void addObject(Object object) {
+        if (mObjectCount == mObjects.length) {
+            mObjects = Arrays.copyOf(mObjects, mObjects.length * 2);
+        }
+
+        mObjects[mObjectCount++] = object;
+    }
+
+    private Paint copyPaint(Paint paint) {
+        if (paint == null) {
+            return null;
+        }
+
+        if (mPaintCount == mPaints.size()) {
+            mPaints.add(new Paint());
+        }
+
+        Paint copy = mPaints.get(mPaintCount++);
+        copy.set(paint);
+        return copy;
+    }
+
+    private Matrix copyMatrix(Matrix matrix) {
+        if (mMatrixCount == mMatrices.size()) {
+            mMatrices.add(new Matrix());
+        }
+
+        Matrix copy = mMatrices.get(mMatrixCount++);
+        copy.set(matrix);
+        return copy;
+    }
+}
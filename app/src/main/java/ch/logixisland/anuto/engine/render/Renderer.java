@@ -4,26 +4,40 @@ import android.graphics.Canvas;
 import android.view.View;
 
 import java.lang.ref.WeakReference;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
 
-import ch.logixisland.anuto.engine.logic.loop.FrameRateLogger;
+import ch.logixisland.anuto.engine.logic.loop.TickProfiler;
+import ch.logixisland.anuto.engine.logic.loop.Tracer;
 import ch.logixisland.anuto.util.container.SafeMultiMap;
 import ch.logixisland.anuto.util.math.Vector2;
 
 public class Renderer {
 
+    private final static String TRACE_SNAPSHOT = "Renderer.publishSnapshot";
+    private final static String TRACE_DRAW = "Renderer.draw";
+
     private final Viewport mViewport;
-    private final FrameRateLogger mFrameRateLogger;
+    private final TickProfiler mTickProfiler;
+    private final Tracer mTracer;
     private final SafeMultiMap<Drawable> mDrawables = new SafeMultiMap<>();
-    private final Lock mLock = new ReentrantLock(true);
+    private final AtomicReference<RecordingCanvas> mPendingSnapshot = new AtomicReference<>();
+    private final ConcurrentLinkedQueue<RecordingCanvas> mFreeSnapshots = new ConcurrentLinkedQueue<>();
+
+    private final Map<Drawable, Boolean> mRemovedDrawables = new IdentityHashMap<>();
+
+    private RecordingCanvas mCurrentSnapshot;
+    private RecordingCanvas mPreviousSnapshot;
 
     private int mBackgroundColor;
     private WeakReference<View> mViewRef;
 
-    public Renderer(Viewport viewport, FrameRateLogger frameRateLogger) {
+    public Renderer(Viewport viewport, TickProfiler tickProfiler, Tracer tracer) {
         mViewport = viewport;
-        mFrameRateLogger = frameRateLogger;
+        mTickProfiler = tickProfiler;
+        mTracer = tracer;
     }
 
     public void setView(final View view) {
@@ -35,22 +49,53 @@ public class Renderer {
     }
 
     public void remove(Drawable obj) {
-        mDrawables.remove(obj.getLayer(), obj);
+        if (mDrawables.remove(obj.getLayer(), obj)) {
+            mRemovedDrawables.put(obj, Boolean.TRUE);
+        }
     }
 
     public void clear() {
         mDrawables.clear();
     }
 
-    public void lock() {
-        mLock.lock();
-    }
+    public void publishSnapshot() {
+        mTracer.begin(TRACE_SNAPSHOT);
+        long startTime = System.nanoTime();
+        RecordingCanvas snapshot = mFreeSnapshots.poll();
+
+        if (snapshot == null) {
+            snapshot = new RecordingCanvas();
+        }
+
+        snapshot.reset();
+        snapshot.setTimestamp(System.nanoTime());
+
+        for (Drawable obj : mDrawables) {
+            snapshot.beginDrawable(obj, !mRemovedDrawables.containsKey(obj));
+            obj.draw(snapshot);
+        }
+
+        mRemovedDrawables.clear();
+        mDrawables.compact();
+
+        RecordingCanvas previous = mPendingSnapshot.getAndSet(snapshot);
+
+        if (previous != null) {
+            mFreeSnapshots.add(previous);
+        }
 
-    public void unlock() {
-        mLock.unlock();
+        if (mTickProfiler.isEnabled()) {
+            mTickProfiler.addTime(TickProfiler.SNAPSHOT, System.nanoTime() - startTime);
+        }
+
+        mTracer.end(TRACE_SNAPSHOT);
     }
 
     public void invalidate() {
+        if (mViewRef == null) {
+            return;
+        }
+
         View view = mViewRef.get();
 
         if (view != null) {
@@ -59,18 +104,65 @@ public class Renderer {
     }
 
     public void draw(Canvas canvas) {
-        mLock.lock();
+        mTracer.begin(TRACE_DRAW);
+        long startTime = System.nanoTime();
+        TickProfiler profiler = mTickProfiler.isEnabled() ? mTickProfiler : null;
+        RecordingCanvas snapshot = mPendingSnapshot.getAndSet(null);
+
+        if (snapshot != null) {
+            if (mPreviousSnapshot != null) {
+                mFreeSnapshots.add(mPreviousSnapshot);
+            }
+
+            mPreviousSnapshot = mCurrentSnapshot;
+            mCurrentSnapshot = snapshot;
+        }
 
         canvas.drawColor(mBackgroundColor);
         canvas.concat(mViewport.getScreenMatrix());
 
-        for (Drawable obj : mDrawables) {
-            obj.draw(canvas);
+        if (mCurrentSnapshot != null) {
+            float factor = getInterpolationFactor();
+            mCurrentSnapshot.replay(canvas, mPreviousSnapshot, factor, profiler);
+
+            if (factor < 1f) {
+                invalidateOnAnimation();
+            }
+        }
+
+        if (profiler != null) {
+            profiler.addTime(TickProfiler.RENDER, System.nanoTime() - startTime);
+        }
+
+        mTickProfiler.incrementRenderCount();
+        mTracer.end(TRACE_DRAW);
+    }
+
+    private float getInterpolationFactor() {
+        if (mPreviousSnapshot == null) {
+            return 1f;
+        }
+
+        long interval = mCurrentSnapshot.getTimestamp() - mPreviousSnapshot.getTimestamp();
+
+        if (interval <= 0) {
+            return 1f;
+        }
+
+        float factor = (float) (System.nanoTime() - mCurrentSnapshot.getTimestamp()) / interval;
+        return Math.max(0f, Math.min(factor, 1f));
+    }
+
+    private void invalidateOnAnimation() {
+        if (mViewRef == null) {
+            return;
         }
 
-        mLock.unlock();
+        View view = mViewRef.get();
 
-        mFrameRateLogger.incrementRenderCount();
+        if (view != null) {
+            view.postInvalidateOnAnimation();
+        }
     }
 
     public void setBackgroundColor(int backgroundColor) {
@@ -78,6 +170,10 @@ public class Renderer {
     }
 
     public boolean isPositionVisible(Vector2 position) {
-        return mViewport.getScreenClipRect().contains(position.x(), position.y());
+        return isPositionVisible(position.x(), position.y());
+    }
+
+    public boolean isPositionVisible(float x, float y) {
+        return mViewport.getScreenClipRect().contains(x, y);
     }
 }
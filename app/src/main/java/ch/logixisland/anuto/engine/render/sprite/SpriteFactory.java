@@ -4,6 +4,8 @@ import android.content.Context;
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
 
+import java.util.Arrays;
+
 import ch.logixisland.anuto.engine.theme.ThemeManager;
 
 public class SpriteFactory {
@@ -11,12 +13,23 @@ public class SpriteFactory {
     private final Context mContext;
     private final ThemeManager mThemeManager;
 
+    private Bitmap mPlaceholder;
+
     public SpriteFactory(Context context, ThemeManager themeManager) {
         mContext = context;
         mThemeManager = themeManager;
     }
 
+    public SpriteFactory(ThemeManager themeManager) {
+        mContext = null;
+        mThemeManager = themeManager;
+    }
+
     public SpriteTemplate createTemplate(int attrId, int spriteCount) {
+        if (mContext == null) {
+            return createPlaceholderTemplate(spriteCount);
+        }
+
         int resourceId = mThemeManager.getTheme().getResourceId(attrId);
 
         Bitmap sheet = BitmapFactory.decodeResource(mContext.getResources(), resourceId);
@@ -31,6 +44,16 @@ public class SpriteFactory {
         return new SpriteTemplate(sprites);
     }
 
+    private SpriteTemplate createPlaceholderTemplate(int spriteCount) {
+        if (mPlaceholder == null) {
+            mPlaceholder = Bitmap.createBitmap(1, 1, Bitmap.Config.ALPHA_8);
+        }
+
+        Bitmap[] sprites = new Bitmap[spriteCount];
+        Arrays.fill(sprites, mPlaceholder);
+        return new SpriteTemplate(sprites);
+    }
+
     public StaticSprite createStatic(int layer, SpriteTemplate template) {
         return new StaticSprite(layer, template);
     }
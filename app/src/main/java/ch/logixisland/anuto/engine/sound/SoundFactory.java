@@ -30,7 +30,19 @@ public class SoundFactory {
         createSound(R.raw.explosive3_bghgh);
     }
 
+    public SoundFactory(SoundManager soundManager) {
+        mContext = null;
+        mSoundManager = soundManager;
+
+        mSoundPool = null;
+        mSoundMap = new HashMap<>();
+    }
+
     public Sound createSound(int resId) {
+        if (mSoundPool == null) {
+            return new Sound(mSoundManager, null, 0);
+        }
+
         if (!mSoundMap.containsKey(resId)) {
             int soundId = mSoundPool.load(mContext, resId, 0);
             mSoundMap.put(resId, soundId);
@@ -39,4 +51,8 @@ public class SoundFactory {
         return new Sound(mSoundManager, mSoundPool, mSoundMap.get(resId));
     }
 
+    public void setMuted(boolean muted) {
+        mSoundManager.setMuted(muted);
+    }
+
 }
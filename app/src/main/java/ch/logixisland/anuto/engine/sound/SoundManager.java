@@ -11,6 +11,7 @@ public class SoundManager implements SharedPreferences.OnSharedPreferenceChangeL
     private final SharedPreferences mPreferences;
 
     private boolean mSoundEnabled;
+    private volatile boolean mMuted;
 
     public SoundManager(Context context) {
         mPreferences = PreferenceManager.getDefaultSharedPreferences(context);
@@ -19,8 +20,17 @@ public class SoundManager implements SharedPreferences.OnSharedPreferenceChangeL
         updateSoundEnabled();
     }
 
+    public SoundManager() {
+        mPreferences = null;
+        mSoundEnabled = false;
+    }
+
     public boolean isSoundEnabled() {
-        return mSoundEnabled;
+        return mSoundEnabled && !mMuted;
+    }
+
+    public void setMuted(boolean muted) {
+        mMuted = muted;
     }
 
     @Override
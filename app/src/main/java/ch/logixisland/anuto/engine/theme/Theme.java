@@ -41,10 +41,18 @@ public class Theme {
     }
 
     public String getName() {
+        if (mContext == null) {
+            return "";
+        }
+
         return mContext.getResources().getString(mThemeNameId);
     }
 
     public int getColor(int attrId) {
+        if (mContext == null) {
+            return 0;
+        }
+
         TypedArray values = mContext.obtainStyledAttributes(mThemeStyleId, new int[]{attrId});
         int color = values.getColor(0, 0);
         values.recycle();
@@ -52,6 +60,10 @@ public class Theme {
     }
 
     public int getResourceId(int attrId) {
+        if (mContext == null) {
+            return 0;
+        }
+
         TypedArray values = mContext.obtainStyledAttributes(mThemeStyleId, new int[]{attrId});
         int resId = values.getResourceId(0, 0);
         values.recycle();
@@ -35,6 +35,14 @@ public class ThemeManager implements SharedPreferences.OnSharedPreferenceChangeL
         updateTheme();
     }
 
+    public ThemeManager(Renderer renderer) {
+        mRenderer = renderer;
+        mPreferences = null;
+
+        mAvailableThemes.add(new Theme(null, 0, 0));
+        setTheme(mAvailableThemes.get(0));
+    }
+
     private void initThemes(Context context) {
         mAvailableThemes.add(new Theme(context, R.string.theme_original, R.style.OriginalTheme));
         mAvailableThemes.add(new Theme(context, R.string.theme_dark, R.style.DarkTheme));
@@ -1,6 +1,6 @@
 package ch.logixisland.anuto.entity.effect;
 
-import java.util.Iterator;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -20,6 +20,8 @@ public class AreaObserver implements Entity.Listener {
     private final Listener mListener;
     private final TickTimer mUpdateTimer = TickTimer.createInterval(0.1f);
     private final List<Enemy> mEnemiesInArea = new CopyOnWriteArrayList<>();
+    private final List<Entity> mSensedEnemies = new ArrayList<>();
+    private boolean mSensed;
 
     public interface Listener {
         void enemyEntered(Enemy enemy);
@@ -33,13 +35,23 @@ public class AreaObserver implements Entity.Listener {
         mListener = listener;
     }
 
+    public void sense() {
+        mSensed = mUpdateTimer.tick();
+
+        if (mSensed) {
+            mGameEngine.getEntitiesInRange(Types.ENEMY, mPosition, mRange, mSensedEnemies);
+        }
+    }
+
     public void tick() {
-        if (!mUpdateTimer.tick()) {
+        if (!mSensed) {
             return;
         }
 
+        mSensed = false;
         checkForExitedEnemies();
         checkForEnteredEnemies();
+        mSensedEnemies.clear();
     }
 
     private void checkForExitedEnemies() {
@@ -53,14 +65,10 @@ public class AreaObserver implements Entity.Listener {
     }
 
     private void checkForEnteredEnemies() {
-        Iterator<Enemy> enemies = mGameEngine.getEntitiesByType(Types.ENEMY)
-                .filter(Entity.inRange(mPosition, mRange))
-                .cast(Enemy.class);
-
-        while (enemies.hasNext()) {
-            Enemy enemy = enemies.next();
+        for (int i = 0; i < mSensedEnemies.size(); i++) {
+            Enemy enemy = (Enemy) mSensedEnemies.get(i);
 
-            if (!mEnemiesInArea.contains(enemy)) {
+            if (enemy.isAdded() && !mEnemiesInArea.contains(enemy)) {
                 mEnemiesInArea.add(enemy);
                 enemy.addListener(this);
                 mListener.enemyEntered(enemy);
@@ -9,6 +9,7 @@ import java.util.Collection;
 
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
+import ch.logixisland.anuto.engine.logic.entity.EntityFactory;
 import ch.logixisland.anuto.engine.render.Drawable;
 import ch.logixisland.anuto.engine.render.Layers;
 import ch.logixisland.anuto.entity.Types;
@@ -17,10 +18,24 @@ import ch.logixisland.anuto.util.math.Vector2;
 
 public class BouncingLaser extends Effect {
 
+    public final static String ENTITY_NAME = "bouncingLaserEffect";
+
     private final static float EFFECT_DURATION = 0.5f;
     private final static int ALPHA_START = 180;
     private final static int ALPHA_STEP = (int) (ALPHA_START / (GameEngine.TARGET_FRAME_RATE * EFFECT_DURATION));
 
+    public static class Factory implements EntityFactory {
+        @Override
+        public String getEntityName() {
+            return ENTITY_NAME;
+        }
+
+        @Override
+        public Entity create(GameEngine gameEngine) {
+            return new BouncingLaser(gameEngine);
+        }
+    }
+
     private class LaserDrawable implements Drawable {
         private Paint mPaint;
         private int mAlpha = ALPHA_START;
@@ -32,6 +47,11 @@ public class BouncingLaser extends Effect {
             mPaint.setColor(Color.RED);
         }
 
+        private void resetVisibility() {
+            mAlpha = ALPHA_START;
+            mPaint.setColor(Color.RED);
+        }
+
         private void decreaseVisibility() {
             mAlpha -= ALPHA_STEP;
 
@@ -49,7 +69,7 @@ public class BouncingLaser extends Effect {
 
         @Override
         public void draw(Canvas canvas) {
-            canvas.drawLine(getPosition().x(), getPosition().y(), mTargetPos.x(), mTargetPos.y(), mPaint);
+            canvas.drawLine(getPositionX(), getPositionY(), mTargetPos.x(), mTargetPos.y(), mPaint);
         }
     }
 
@@ -63,13 +83,19 @@ public class BouncingLaser extends Effect {
 
     private LaserDrawable mDrawObject;
 
-    public BouncingLaser(Entity origin, Vector2 position, Enemy target, float damage) {
-        this(origin, position, target, damage, 0, 0);
+    private BouncingLaser(GameEngine gameEngine) {
+        super(gameEngine, EFFECT_DURATION);
+
+        mDrawObject = new LaserDrawable();
+    }
+
+    public void setup(Entity origin, Vector2 position, Enemy target, float damage) {
+        setup(origin, position, target, damage, 0, 0);
     }
 
-    public BouncingLaser(Entity origin, Vector2 position, Enemy target,
-                         float damage, int bounceCount, float maxBounceDist) {
-        super(origin, EFFECT_DURATION);
+    public void setup(Entity origin, Vector2 position, Enemy target,
+                      float damage, int bounceCount, float maxBounceDist) {
+        setOrigin(origin);
         setPosition(position);
 
         mTarget = target;
@@ -79,11 +105,11 @@ public class BouncingLaser extends Effect {
         mBounceCount = bounceCount;
         mMaxBounceDist = maxBounceDist;
 
-        mDrawObject = new LaserDrawable();
+        mDrawObject.resetVisibility();
     }
 
-    private BouncingLaser(BouncingLaser origin, Enemy target) {
-        this(origin.getOrigin(), origin.mTarget.getPosition(), target, origin.mDamage, origin.mBounceCount - 1, origin.mMaxBounceDist);
+    private void setup(BouncingLaser origin, Enemy target) {
+        setup(origin.getOrigin(), origin.mTarget.getPosition(), target, origin.mDamage, origin.mBounceCount - 1, origin.mMaxBounceDist);
 
         mOrigin = origin.mTarget;
 
@@ -91,6 +117,21 @@ public class BouncingLaser extends Effect {
         mPrevTargets.add(target);
     }
 
+    @Override
+    public String getEntityName() {
+        return ENTITY_NAME;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+
+        mOrigin = null;
+        mTarget = null;
+        mTargetPos = null;
+        mPrevTargets = null;
+    }
+
     @Override
     public void init() {
         super.init();
@@ -128,12 +169,14 @@ public class BouncingLaser extends Effect {
                 mPrevTargets.add(mTarget);
             }
 
-            Enemy enemy = (Enemy) getGameEngine().getEntitiesByType(Types.ENEMY)
+            Enemy enemy = (Enemy) getGameEngine().getEntitiesInRange(Types.ENEMY, mTarget.getPosition(), mMaxBounceDist)
                     .filter(mPrevTargets)
-                    .min(distanceTo(mTarget.getPosition()));
+                    .minBy(distanceTo(mTarget.getPosition()));
 
-            if (enemy != null && mTarget.getDistanceTo(enemy) <= mMaxBounceDist) {
-                getGameEngine().add(new BouncingLaser(this, enemy));
+            if (enemy != null) {
+                BouncingLaser laser = (BouncingLaser) getGameEngine().createEntity(ENTITY_NAME);
+                laser.setup(this, enemy);
+                getGameEngine().add(laser);
             }
         }
 
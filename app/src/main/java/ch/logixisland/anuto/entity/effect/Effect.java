@@ -1,5 +1,6 @@
 package ch.logixisland.anuto.entity.effect;
 
+import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.engine.logic.loop.TickTimer;
 import ch.logixisland.anuto.entity.Types;
@@ -27,15 +28,36 @@ public abstract class Effect extends Entity {
         mTimer = TickTimer.createInterval(duration);
     }
 
+    Effect(GameEngine gameEngine, float duration) {
+        super(gameEngine);
+        mState = State.NotStarted;
+        mTimer = TickTimer.createInterval(duration);
+    }
+
     public Entity getOrigin() {
         return mOrigin;
     }
 
+    protected void setOrigin(Entity origin) {
+        mOrigin = origin;
+    }
+
     @Override
     public final int getEntityType() {
         return Types.EFFECT;
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        mOrigin = null;
+        mState = State.NotStarted;
+
+        if (mTimer != null) {
+            mTimer.reset();
+        }
+    }
+
     @Override
     public void tick() {
         super.tick();
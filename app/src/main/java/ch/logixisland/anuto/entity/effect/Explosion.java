@@ -7,6 +7,7 @@ import android.graphics.Paint;
 import ch.logixisland.anuto.R;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
+import ch.logixisland.anuto.engine.logic.entity.EntityFactory;
 import ch.logixisland.anuto.engine.render.Drawable;
 import ch.logixisland.anuto.engine.render.Layers;
 import ch.logixisland.anuto.engine.sound.Sound;
@@ -17,10 +18,24 @@ import ch.logixisland.anuto.util.math.Vector2;
 
 public class Explosion extends Effect {
 
+    public final static String ENTITY_NAME = "explosion";
+
     private final static float EFFECT_DURATION = 0.2f;
     private final static int ALPHA_START = 180;
     private final static int ALPHA_STEP = (int) (ALPHA_START / (GameEngine.TARGET_FRAME_RATE * EFFECT_DURATION));
 
+    public static class Factory implements EntityFactory {
+        @Override
+        public String getEntityName() {
+            return ENTITY_NAME;
+        }
+
+        @Override
+        public Entity create(GameEngine gameEngine) {
+            return new Explosion(gameEngine);
+        }
+    }
+
     private class ExplosionDrawable implements Drawable {
         private Paint mPaint;
         private int mAlpha = ALPHA_START;
@@ -28,6 +43,11 @@ public class Explosion extends Effect {
         private ExplosionDrawable() {
             mPaint = new Paint();
             mPaint.setColor(Color.YELLOW);
+            resetVisibility();
+        }
+
+        private void resetVisibility() {
+            mAlpha = ALPHA_START;
             mPaint.setAlpha(mAlpha);
         }
 
@@ -48,7 +68,7 @@ public class Explosion extends Effect {
 
         @Override
         public void draw(Canvas canvas) {
-            canvas.drawCircle(getPosition().x(), getPosition().y(), mRadius, mPaint);
+            canvas.drawCircle(getPositionX(), getPositionY(), mRadius, mPaint);
         }
     }
 
@@ -58,15 +78,25 @@ public class Explosion extends Effect {
     private ExplosionDrawable mDrawObject;
     private Sound mSound;
 
-    public Explosion(Entity origin, Vector2 position, float damage, float radius) {
-        super(origin, EFFECT_DURATION);
+    private Explosion(GameEngine gameEngine) {
+        super(gameEngine, EFFECT_DURATION);
+
+        mDrawObject = new ExplosionDrawable();
+        mSound = getSoundFactory().createSound(R.raw.explosive3_bghgh);
+    }
+
+    public void setup(Entity origin, Vector2 position, float damage, float radius) {
+        setOrigin(origin);
         setPosition(position);
 
         mDamage = damage;
         mRadius = radius;
+        mDrawObject.resetVisibility();
+    }
 
-        mDrawObject = new ExplosionDrawable();
-        mSound = getSoundFactory().createSound(R.raw.explosive3_bghgh);
+    @Override
+    public String getEntityName() {
+        return ENTITY_NAME;
     }
 
     @Override
@@ -94,8 +124,7 @@ public class Explosion extends Effect {
     protected void effectBegin() {
         mSound.play();
 
-        StreamIterator<Enemy> enemies = getGameEngine().getEntitiesByType(Types.ENEMY)
-                .filter(inRange(getPosition(), mRadius))
+        StreamIterator<Enemy> enemies = getGameEngine().getEntitiesInRange(Types.ENEMY, getPosition(), mRadius)
                 .cast(Enemy.class);
 
         while (enemies.hasNext()) {
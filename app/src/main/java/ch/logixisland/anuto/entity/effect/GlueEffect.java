@@ -13,7 +13,6 @@ import ch.logixisland.anuto.engine.render.sprite.SpriteTransformer;
 import ch.logixisland.anuto.engine.render.sprite.StaticSprite;
 import ch.logixisland.anuto.entity.enemy.Enemy;
 import ch.logixisland.anuto.entity.enemy.Flyer;
-import ch.logixisland.anuto.util.RandomUtils;
 import ch.logixisland.anuto.util.math.Vector2;
 
 public class GlueEffect extends Effect implements SpriteTransformation, AreaObserver.Listener {
@@ -38,7 +37,7 @@ public class GlueEffect extends Effect implements SpriteTransformation, AreaObse
         setPosition(position);
 
         mIntensity = intensity;
-        mAngle = RandomUtils.next(360f);
+        mAngle = getRandom().next(360f);
         mAlphaStep = (int) (ALPHA_START / (GameEngine.TARGET_FRAME_RATE * duration));
         mAreaObserver = new AreaObserver(getGameEngine(), position, RANGE, this);
 
@@ -46,7 +45,7 @@ public class GlueEffect extends Effect implements SpriteTransformation, AreaObse
 
         mSprite = getSpriteFactory().createStatic(Layers.BOTTOM, s.mSpriteTemplate);
         mSprite.setListener(this);
-        mSprite.setIndex(RandomUtils.next(4));
+        mSprite.setIndex(getRandom().next(4));
 
         mPaint = new Paint();
         mPaint.setAlpha(ALPHA_START);
@@ -77,10 +76,16 @@ public class GlueEffect extends Effect implements SpriteTransformation, AreaObse
 
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
+        transformer.translate(getPositionX(), getPositionY());
         transformer.rotate(mAngle);
     }
 
+    @Override
+    public void sense() {
+        super.sense();
+        mAreaObserver.sense();
+    }
+
     @Override
     public void tick() {
         super.tick();
@@ -8,6 +8,7 @@ import java.util.Collection;
 
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
+import ch.logixisland.anuto.engine.logic.entity.EntityFactory;
 import ch.logixisland.anuto.engine.render.Drawable;
 import ch.logixisland.anuto.engine.render.Layers;
 import ch.logixisland.anuto.entity.Types;
@@ -17,8 +18,22 @@ import ch.logixisland.anuto.util.math.Vector2;
 
 public class HealEffect extends Effect {
 
+    public final static String ENTITY_NAME = "healEffect";
+
     private static final float EFFECT_DURATION = 0.7f;
 
+    public static class Factory implements EntityFactory {
+        @Override
+        public String getEntityName() {
+            return ENTITY_NAME;
+        }
+
+        @Override
+        public Entity create(GameEngine gameEngine) {
+            return new HealEffect(gameEngine);
+        }
+    }
+
     private class HealDrawable implements Drawable {
         private Paint mPaint;
 
@@ -37,7 +52,7 @@ public class HealEffect extends Effect {
 
         @Override
         public void draw(Canvas canvas) {
-            canvas.drawCircle(getPosition().x(), getPosition().y(), mDrawRadius, mPaint);
+            canvas.drawCircle(getPositionX(), getPositionY(), mDrawRadius, mPaint);
         }
     }
 
@@ -48,16 +63,31 @@ public class HealEffect extends Effect {
     private Drawable mDrawable;
     private Collection<Enemy> mHealedEnemies;
 
-    public HealEffect(Entity origin, Vector2 position, float amount, float radius, Collection<Enemy> healedEnemies) {
-        super(origin, EFFECT_DURATION);
+    private HealEffect(GameEngine gameEngine) {
+        super(gameEngine, EFFECT_DURATION);
+
+        mDrawable = new HealDrawable();
+    }
+
+    public void setup(Entity origin, Vector2 position, float amount, float radius, Collection<Enemy> healedEnemies) {
+        setOrigin(origin);
         setPosition(position);
 
         mHealAmount = amount;
         mRange = radius;
         mDrawRadius = 0f;
         mHealedEnemies = healedEnemies;
+    }
 
-        mDrawable = new HealDrawable();
+    @Override
+    public String getEntityName() {
+        return ENTITY_NAME;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        mHealedEnemies = null;
     }
 
     @Override
@@ -83,8 +113,7 @@ public class HealEffect extends Effect {
 
     @Override
     protected void effectBegin() {
-        StreamIterator<Enemy> enemies = getGameEngine().getEntitiesByType(Types.ENEMY)
-                .filter(inRange(getPosition(), mRange))
+        StreamIterator<Enemy> enemies = getGameEngine().getEntitiesInRange(Types.ENEMY, getPosition(), mRange)
                 .filter(mHealedEnemies)
                 .cast(Enemy.class);
 
@@ -6,6 +6,7 @@ import android.graphics.Paint;
 
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
+import ch.logixisland.anuto.engine.logic.entity.EntityFactory;
 import ch.logixisland.anuto.engine.render.Drawable;
 import ch.logixisland.anuto.engine.render.Layers;
 import ch.logixisland.anuto.entity.Types;
@@ -15,12 +16,26 @@ import ch.logixisland.anuto.util.math.Vector2;
 
 public class StraightLaser extends Effect {
 
+    public final static String ENTITY_NAME = "straightLaserEffect";
+
     private final static float LASER_WIDTH = 0.7f;
 
     private final static float EFFECT_DURATION = 0.5f;
     private final static int ALPHA_START = 180;
     private final static int ALPHA_STEP = (int) (ALPHA_START / (GameEngine.TARGET_FRAME_RATE * EFFECT_DURATION));
 
+    public static class Factory implements EntityFactory {
+        @Override
+        public String getEntityName() {
+            return ENTITY_NAME;
+        }
+
+        @Override
+        public Entity create(GameEngine gameEngine) {
+            return new StraightLaser(gameEngine);
+        }
+    }
+
     private class LaserDrawable implements Drawable {
         private Paint mPaint;
         private int mAlpha = ALPHA_START;
@@ -32,6 +47,11 @@ public class StraightLaser extends Effect {
             mPaint.setColor(Color.RED);
         }
 
+        public void resetVisibility() {
+            mAlpha = ALPHA_START;
+            mPaint.setColor(Color.RED);
+        }
+
         public void decreaseVisibility() {
             mAlpha -= ALPHA_STEP;
 
@@ -49,7 +69,7 @@ public class StraightLaser extends Effect {
 
         @Override
         public void draw(Canvas canvas) {
-            canvas.drawLine(getPosition().x(), getPosition().y(), mLaserTo.x(), mLaserTo.y(), mPaint);
+            canvas.drawLine(getPositionX(), getPositionY(), mLaserTo.x(), mLaserTo.y(), mPaint);
         }
     }
 
@@ -58,14 +78,24 @@ public class StraightLaser extends Effect {
 
     private LaserDrawable mDrawObject;
 
-    public StraightLaser(Entity origin, Vector2 position, Vector2 laserTo, float damage) {
-        super(origin, EFFECT_DURATION);
+    private StraightLaser(GameEngine gameEngine) {
+        super(gameEngine, EFFECT_DURATION);
+
+        mDrawObject = new LaserDrawable();
+    }
+
+    public void setup(Entity origin, Vector2 position, Vector2 laserTo, float damage) {
+        setOrigin(origin);
         setPosition(position);
 
         mLaserTo = laserTo;
         mDamage = damage;
+        mDrawObject.resetVisibility();
+    }
 
-        mDrawObject = new LaserDrawable();
+    @Override
+    public String getEntityName() {
+        return ENTITY_NAME;
     }
 
     @Override
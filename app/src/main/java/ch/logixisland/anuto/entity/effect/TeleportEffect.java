@@ -35,7 +35,7 @@ public class TeleportEffect extends Effect implements Entity.Listener {
         @Override
         public void draw(Canvas canvas) {
             Vector2 target = mTarget.getPosition();
-            canvas.drawLine(getPosition().x(), getPosition().y(), target.x(), target.y(), mPaint);
+            canvas.drawLine(getPositionX(), getPositionY(), target.x(), target.y(), mPaint);
         }
 
     }
@@ -97,6 +97,6 @@ public class Blob extends Enemy implements SpriteTransformation {
 
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
+        transformer.translate(getPositionX(), getPositionY());
     }
 }
@@ -3,19 +3,35 @@ package ch.logixisland.anuto.entity.enemy;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
+import ch.logixisland.anuto.data.map.MapPath;
 import ch.logixisland.anuto.data.setting.GameSettings;
 import ch.logixisland.anuto.data.setting.enemy.BasicEnemySettings;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.entity.Types;
 import ch.logixisland.anuto.entity.tower.Tower;
-import ch.logixisland.anuto.util.iterator.Function;
+import ch.logixisland.anuto.util.iterator.FloatFunction;
 import ch.logixisland.anuto.util.iterator.Predicate;
+import ch.logixisland.anuto.util.math.MutableVector2;
 import ch.logixisland.anuto.util.math.Vector2;
 
 
 public abstract class Enemy extends Entity {
 
+    private final static FloatFunction<Enemy> HEALTH = new FloatFunction<Enemy>() {
+        @Override
+        public float apply(Enemy input) {
+            return input.mHealth;
+        }
+    };
+
+    private final static FloatFunction<Enemy> DISTANCE_REMAINING = new FloatFunction<Enemy>() {
+        @Override
+        public float apply(Enemy input) {
+            return input.getDistanceRemaining();
+        }
+    };
+
     private int mWaveNumber;
 
     public static Predicate<Enemy> enabled() {
@@ -27,22 +43,12 @@ public abstract class Enemy extends Entity {
         };
     }
 
-    public static Function<Enemy, Float> health() {
-        return new Function<Enemy, Float>() {
-            @Override
-            public Float apply(Enemy input) {
-                return input.mHealth;
-            }
-        };
+    public static FloatFunction<Enemy> health() {
+        return HEALTH;
     }
 
-    public static Function<Enemy, Float> distanceRemaining() {
-        return new Function<Enemy, Float>() {
-            @Override
-            public Float apply(Enemy input) {
-                return input.getDistanceRemaining();
-            }
-        };
+    public static FloatFunction<Enemy> distanceRemaining() {
+        return DISTANCE_REMAINING;
     }
 
     private final GameSettings mGameSettings;
@@ -53,8 +59,12 @@ public abstract class Enemy extends Entity {
     private float mHealth;
     private float mMaxHealth;
     private float mSpeedModifier;
-    private List<Vector2> mWayPoints;
-    private int mWayPointIndex;
+    private MapPath mPath;
+    private float mPathDistance;
+    private final MutableVector2 mPathPosition = new MutableVector2();
+
+    private float mRankedHealth;
+    private float mRankedDistanceRemaining;
 
     private HealthBar mHealthBar;
 
@@ -115,12 +125,9 @@ public abstract class Enemy extends Entity {
         }
 
         float stepSize = getSpeed() / GameEngine.TARGET_FRAME_RATE;
-        if (getDistanceTo(getCurrentWayPoint()) >= stepSize) {
-            move(getDirection().mul(stepSize));
-        } else {
-            setPosition(getCurrentWayPoint());
-            mWayPointIndex++;
-        }
+        mPathDistance = Math.min(mPathDistance + stepSize, mPath.getLength());
+        mPath.getPositionAt(mPathDistance, mPathPosition);
+        setPosition(mPathPosition.x(), mPathPosition.y());
     }
 
     public boolean isEnabled() {
@@ -139,29 +146,28 @@ public abstract class Enemy extends Entity {
         mWaveNumber = waveNumber;
     }
 
-    public void setupPath(List<Vector2> wayPoints) {
-        setupPath(wayPoints, 0);
+    public void setupPath(MapPath path, float pathDistance) {
+        mPath = path;
+        mPathDistance = pathDistance;
+        mPath.getPositionAt(mPathDistance, mPathPosition);
+        setPosition(mPathPosition.x(), mPathPosition.y());
     }
 
-    void setupPath(List<Vector2> wayPoints, int wayPointIndex) {
-        mWayPoints = wayPoints;
-        mWayPointIndex = wayPointIndex;
+    void setupPath(MapPath path, int wayPointIndex) {
+        mPath = path;
+        mPathDistance = path.getDistanceAt(wayPointIndex, getPosition());
     }
 
-    private Vector2 getCurrentWayPoint() {
-        return mWayPoints.get(mWayPointIndex);
+    MapPath getPath() {
+        return mPath;
     }
 
-    List<Vector2> getWayPoints() {
-        return mWayPoints;
-    }
-
-    int getWayPointIndex() {
-        return mWayPointIndex;
+    float getPathDistance() {
+        return mPathDistance;
     }
 
     boolean hasWayPoint() {
-        return mWayPoints != null && mWayPointIndex < mWayPoints.size();
+        return mPath != null && mPathDistance < mPath.getLength();
     }
 
     Vector2 getDirection() {
@@ -169,7 +175,7 @@ public abstract class Enemy extends Entity {
             return null;
         }
 
-        return getDirectionTo(getCurrentWayPoint());
+        return mPath.getDirectionAt(mPathDistance);
     }
 
     public float getSpeed() {
@@ -180,77 +186,45 @@ public abstract class Enemy extends Entity {
         mSpeedModifier = Math.max(mGameSettings.getMinSpeedModifier(), mSpeedModifier * f);
     }
 
-    private float getDistanceRemaining() {
+    float getDistanceRemaining() {
         if (!hasWayPoint()) {
             return 0;
         }
 
-        float dist = getDistanceTo(getCurrentWayPoint());
-
-        for (int i = mWayPointIndex + 1; i < mWayPoints.size(); i++) {
-            Vector2 wThis = mWayPoints.get(i);
-            Vector2 wLast = mWayPoints.get(i - 1);
-
-            dist += wLast.to(wThis).len();
-        }
-
-        return dist;
+        return mPath.getLength() - mPathDistance;
     }
 
     public Vector2 getPositionAfter(float sec) {
-        if (mWayPoints == null) {
+        if (mPath == null) {
             return getPosition();
         }
 
-        float distance = sec * getSpeed();
-        int index = mWayPointIndex;
-        Vector2 position = getPosition();
-
-        while (index < mWayPoints.size()) {
-            Vector2 toWaypoint = position.to(mWayPoints.get(index));
-            float toWaypointDist = toWaypoint.len();
-
-            if (distance < toWaypointDist) {
-                return position.add(toWaypoint.mul(distance / toWaypointDist));
-            } else {
-                distance -= toWaypointDist;
-                mWayPoints.get(index);
-                index++;
-            }
-        }
-
-        return position;
+        return mPath.getPositionAt(mPathDistance + sec * getSpeed());
     }
 
     public void sendBack(float dist) {
-        int index = mWayPointIndex - 1;
-        Vector2 pos = getPosition();
-
-        while (index > 0) {
-            Vector2 wp = mWayPoints.get(index);
-            Vector2 toWp = pos.to(wp);
-            float toWpLen = toWp.len();
-
-            if (dist > toWpLen) {
-                dist -= toWpLen;
-                pos = wp;
-                index--;
-            } else {
-                pos = toWp.norm().mul(dist).add(pos);
-                setPosition(pos);
-                mWayPointIndex = index + 1;
-                return;
-            }
-        }
-
-        setPosition(mWayPoints.get(0));
-        mWayPointIndex = 1;
+        mPathDistance = Math.max(mPathDistance - dist, 0f);
+        mPath.getPositionAt(mPathDistance, mPathPosition);
+        setPosition(mPathPosition.x(), mPathPosition.y());
     }
 
     float getHealth() {
         return mHealth;
     }
 
+    void updateRanking() {
+        mRankedHealth = mHealth;
+        mRankedDistanceRemaining = getDistanceRemaining();
+    }
+
+    float getRankedHealth() {
+        return mRankedHealth;
+    }
+
+    float getRankedDistanceRemaining() {
+        return mRankedDistanceRemaining;
+    }
+
     public float getMaxHealth() {
         return mMaxHealth;
     }
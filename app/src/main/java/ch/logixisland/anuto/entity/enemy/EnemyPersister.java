@@ -1,11 +1,15 @@
 package ch.logixisland.anuto.entity.enemy;
 
+import java.util.List;
+
+import ch.logixisland.anuto.data.map.MapPath;
 import ch.logixisland.anuto.data.state.EnemyData;
 import ch.logixisland.anuto.data.state.EntityData;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.engine.logic.entity.EntityRegistry;
 import ch.logixisland.anuto.engine.logic.persistence.EntityPersister;
+import ch.logixisland.anuto.util.math.Vector2;
 
 public class EnemyPersister extends EntityPersister {
 
@@ -21,12 +25,17 @@ public class EnemyPersister extends EntityPersister {
     @Override
     protected EnemyData writeEntityData(Entity entity) {
         Enemy enemy = (Enemy) entity;
-        EnemyData data = (EnemyData) super.writeEntityData(entity);
+        int pathIndex = getPaths().indexOf(enemy.getPath());
+
+        if (pathIndex < 0) {
+            throw new RuntimeException("Enemy path is not part of the game map!");
+        }
 
+        EnemyData data = (EnemyData) super.writeEntityData(entity);
         data.setHealth(enemy.getHealth());
         data.setMaxHealth(enemy.getMaxHealth());
-        data.setWayPoints(enemy.getWayPoints());
-        data.setWayPointIndex(enemy.getWayPointIndex());
+        data.setPathIndex(pathIndex);
+        data.setPathDistance(enemy.getPathDistance());
         data.setWaveNumber(enemy.getWaveNumber());
         data.setReward(enemy.getReward());
 
@@ -41,9 +50,66 @@ public class EnemyPersister extends EntityPersister {
         enemy.setHealth(data.getHealth(), data.getMaxHealth());
         enemy.setReward(data.getReward());
         enemy.setWaveNumber(data.getWaveNumber());
-        enemy.setupPath(data.getWayPoints(), data.getWayPointIndex());
+
+        if (data.getPathIndex() >= 0) {
+            enemy.setupPath(getPaths().get(data.getPathIndex()), data.getPathDistance());
+        } else {
+            setupLegacyPath(enemy, data.getWayPoints(), data.getWayPointIndex());
+        }
 
         return enemy;
     }
 
+    private void setupLegacyPath(Enemy enemy, List<Vector2> wayPoints, int wayPointIndex) {
+        for (MapPath path : getPaths()) {
+            if (isSameWayPoints(path.getWayPoints(), wayPoints)) {
+                enemy.setupPath(path, wayPointIndex);
+                return;
+            }
+        }
+
+        Vector2 position = enemy.getPosition();
+        MapPath closestPath = null;
+        float closestPathDistance = 0f;
+        float closestOffset = 0f;
+
+        for (MapPath path : getPaths()) {
+            float pathDistance = path.getDistanceClosestTo(position);
+            float offset = path.getPositionAt(pathDistance).distanceTo(position);
+
+            if (closestPath == null || offset < closestOffset) {
+                closestPath = path;
+                closestPathDistance = pathDistance;
+                closestOffset = offset;
+            }
+        }
+
+        if (closestPath == null) {
+            throw new RuntimeException("Game map has no paths!");
+        }
+
+        enemy.setupPath(closestPath, closestPathDistance);
+    }
+
+    private static boolean isSameWayPoints(List<Vector2> wayPoints1, List<Vector2> wayPoints2) {
+        if (wayPoints1.size() != wayPoints2.size()) {
+            return false;
+        }
+
+        for (int i = 0; i < wayPoints1.size(); i++) {
+            Vector2 wayPoint1 = wayPoints1.get(i);
+            Vector2 wayPoint2 = wayPoints2.get(i);
+
+            if (wayPoint1.x() != wayPoint2.x() || wayPoint1.y() != wayPoint2.y()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private List<MapPath> getPaths() {
+        return getGameEngine().getGameConfiguration().getGameMap().getPaths();
+    }
+
 }
@@ -0,0 +1,156 @@
+package ch.logixisland.anuto.entity.enemy;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import ch.logixisland.anuto.engine.logic.GameEngine;
+import ch.logixisland.anuto.engine.logic.entity.Entity;
+import ch.logixisland.anuto.engine.logic.entity.StaticDataProvider;
+import ch.logixisland.anuto.entity.Types;
+import ch.logixisland.anuto.entity.tower.TowerStrategy;
+import ch.logixisland.anuto.util.iterator.StreamIterator;
+import ch.logixisland.anuto.util.math.Vector2;
+
+public class EnemyRanking {
+
+    private final static Comparator<Enemy> BY_HEALTH = new Comparator<Enemy>() {
+        @Override
+        public int compare(Enemy o1, Enemy o2) {
+            return Float.compare(o1.getRankedHealth(), o2.getRankedHealth());
+        }
+    };
+
+    private final static Comparator<Enemy> BY_DISTANCE_REMAINING = new Comparator<Enemy>() {
+        @Override
+        public int compare(Enemy o1, Enemy o2) {
+            return Float.compare(o1.getRankedDistanceRemaining(), o2.getRankedDistanceRemaining());
+        }
+    };
+
+    public static EnemyRanking get(final GameEngine gameEngine) {
+        return (EnemyRanking) gameEngine.getStaticData(EnemyRanking.class, new StaticDataProvider() {
+            @Override
+            public Object initStatic() {
+                return new EnemyRanking(gameEngine);
+            }
+        });
+    }
+
+    private final GameEngine mGameEngine;
+    private volatile int mTickCount = -1;
+
+    private int mCount;
+    private Enemy[] mEnemies = new Enemy[0];
+    private Enemy[] mByHealth = new Enemy[0];
+    private Enemy[] mByDistanceRemaining = new Enemy[0];
+
+    private EnemyRanking(GameEngine gameEngine) {
+        mGameEngine = gameEngine;
+    }
+
+    public Enemy getTarget(TowerStrategy strategy, Vector2 center, float range) {
+        update();
+
+        switch (strategy) {
+            case Closest:
+                return findClosest(center, range);
+
+            case Strongest:
+                return findLast(mByHealth, center, range);
+
+            case Weakest:
+                return findFirst(mByHealth, center, range);
+
+            case First:
+                return findFirst(mByDistanceRemaining, center, range);
+
+            case Last:
+                return findLast(mByDistanceRemaining, center, range);
+
+            default:
+                throw new RuntimeException("Unknown strategy!");
+        }
+    }
+
+    private Enemy findClosest(Vector2 center, float range) {
+        Enemy target = null;
+        float targetDistance = range * range;
+
+        for (int i = 0; i < mCount; i++) {
+            Enemy enemy = mEnemies[i];
+            float distance = getDistanceSquared(enemy, center);
+
+            if (distance <= targetDistance && (target == null || distance < targetDistance)) {
+                target = enemy;
+                targetDistance = distance;
+            }
+        }
+
+        return target;
+    }
+
+    private Enemy findFirst(Enemy[] ranking, Vector2 center, float range) {
+        float rangeSquared = range * range;
+
+        for (int i = 0; i < mCount; i++) {
+            if (getDistanceSquared(ranking[i], center) <= rangeSquared) {
+                return ranking[i];
+            }
+        }
+
+        return null;
+    }
+
+    private Enemy findLast(Enemy[] ranking, Vector2 center, float range) {
+        float rangeSquared = range * range;
+
+        for (int i = mCount - 1; i >= 0; i--) {
+            if (getDistanceSquared(ranking[i], center) <= rangeSquared) {
+                return ranking[i];
+            }
+        }
+
+        return null;
+    }
+
+    private static float getDistanceSquared(Enemy enemy, Vector2 center) {
+        float dx = enemy.getPositionX() - center.x();
+        float dy = enemy.getPositionY() - center.y();
+        return dx * dx + dy * dy;
+    }
+
+    private synchronized void update() {
+        int tickCount = mGameEngine.getTickCount();
+
+        if (mTickCount == tickCount) {
+            return;
+        }
+
+        mCount = 0;
+        StreamIterator<Entity> enemies = mGameEngine.getEntitiesByType(Types.ENEMY);
+
+        while (enemies.hasNext()) {
+            Enemy enemy = (Enemy) enemies.next();
+            enemy.updateRanking();
+
+            if (mCount == mEnemies.length) {
+                int capacity = Math.max(16, mCount * 2);
+                mEnemies = Arrays.copyOf(mEnemies, capacity);
+                mByHealth = new Enemy[capacity];
+                mByDistanceRemaining = new Enemy[capacity];
+            }
+
+            mEnemies[mCount++] = enemy;
+        }
+
+        Arrays.fill(mEnemies, mCount, mEnemies.length, null);
+
+        System.arraycopy(mEnemies, 0, mByHealth, 0, mEnemies.length);
+        Arrays.sort(mByHealth, 0, mCount, BY_HEALTH);
+
+        System.arraycopy(mEnemies, 0, mByDistanceRemaining, 0, mEnemies.length);
+        Arrays.sort(mByDistanceRemaining, 0, mCount, BY_DISTANCE_REMAINING);
+
+        mTickCount = tickCount;
+    }
+}
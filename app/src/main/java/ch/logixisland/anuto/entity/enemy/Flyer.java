@@ -108,7 +108,7 @@ public class Flyer extends Enemy implements SpriteTransformation {
 
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
+        transformer.translate(getPositionX(), getPositionY());
         transformer.rotate(mAngle);
     }
 }
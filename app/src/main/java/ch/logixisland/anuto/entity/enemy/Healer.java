@@ -180,16 +180,18 @@ public class Healer extends Enemy implements SpriteTransformation {
         super.tick();
 
         if (mStaticData.mDropEffect) {
-            getGameEngine().add(new HealEffect(this, getPosition(),
+            HealEffect effect = (HealEffect) getGameEngine().createEntity(HealEffect.ENTITY_NAME);
+            effect.setup(this, getPosition(),
                     mHealerSettings.getHealAmount(),
                     mHealerSettings.getHealRadius(),
-                    mStaticData.mHealedEnemies));
+                    mStaticData.mHealedEnemies);
+            getGameEngine().add(effect);
         }
     }
 
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
+        transformer.translate(getPositionX(), getPositionY());
         transformer.rotate(mStaticData.mAngle);
         transformer.scale(mStaticData.mScale);
     }
@@ -104,7 +104,7 @@ public class Sprinter extends Enemy implements SpriteTransformation {
 
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
+        transformer.translate(getPositionX(), getPositionY());
         transformer.rotate(mAngle);
     }
 
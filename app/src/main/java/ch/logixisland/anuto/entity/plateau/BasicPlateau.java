@@ -14,7 +14,6 @@ import ch.logixisland.anuto.engine.render.sprite.SpriteTemplate;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTransformation;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTransformer;
 import ch.logixisland.anuto.engine.render.sprite.StaticSprite;
-import ch.logixisland.anuto.util.RandomUtils;
 
 public class BasicPlateau extends Plateau implements SpriteTransformation {
 
@@ -54,7 +53,7 @@ public class BasicPlateau extends Plateau implements SpriteTransformation {
         StaticData s = (StaticData) getStaticData();
 
         mSprite = getSpriteFactory().createStatic(Layers.PLATEAU, s.mSpriteTemplate);
-        mSprite.setIndex(RandomUtils.next(4));
+        mSprite.setIndex(getRandom().next(4));
         mSprite.setListener(this);
     }
 
@@ -89,6 +88,6 @@ public class BasicPlateau extends Plateau implements SpriteTransformation {
 
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
+        transformer.translate(getPositionX(), getPositionY());
     }
 }
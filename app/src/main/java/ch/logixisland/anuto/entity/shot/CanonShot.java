@@ -3,6 +3,7 @@ package ch.logixisland.anuto.entity.shot;
 import ch.logixisland.anuto.R;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
+import ch.logixisland.anuto.engine.logic.entity.EntityFactory;
 import ch.logixisland.anuto.engine.render.Layers;
 import ch.logixisland.anuto.engine.render.sprite.SpriteInstance;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTemplate;
@@ -10,15 +11,28 @@ import ch.logixisland.anuto.engine.render.sprite.SpriteTransformation;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTransformer;
 import ch.logixisland.anuto.engine.render.sprite.StaticSprite;
 import ch.logixisland.anuto.entity.enemy.Enemy;
-import ch.logixisland.anuto.util.RandomUtils;
 import ch.logixisland.anuto.util.math.Vector2;
 
 public class CanonShot extends Shot implements SpriteTransformation, TargetTracker.Listener {
 
+    public final static String ENTITY_NAME = "canonShot";
+
     private final static float MOVEMENT_SPEED = 4.0f;
     private final static float ROTATION_SPEED = 1.0f;
     private final static float ROTATION_STEP = ROTATION_SPEED * 360f / GameEngine.TARGET_FRAME_RATE;
 
+    public static class Factory implements EntityFactory {
+        @Override
+        public String getEntityName() {
+            return ENTITY_NAME;
+        }
+
+        @Override
+        public Entity create(GameEngine gameEngine) {
+            return new CanonShot(gameEngine);
+        }
+    }
+
     private class StaticData {
         public SpriteTemplate mSpriteTemplate;
     }
@@ -29,19 +43,36 @@ public class CanonShot extends Shot implements SpriteTransformation, TargetTrack
 
     private StaticSprite mSprite;
 
-    public CanonShot(Entity origin, Vector2 position, Enemy target, float damage) {
-        super(origin);
+    private CanonShot(GameEngine gameEngine) {
+        super(gameEngine);
+        mTracker = new TargetTracker(this, this);
+
+        StaticData s = (StaticData) getStaticData();
+
+        mSprite = getSpriteFactory().createStatic(Layers.SHOT, s.mSpriteTemplate);
+        mSprite.setListener(this);
+    }
+
+    public void setup(Entity origin, Vector2 position, Enemy target, float damage) {
+        setOrigin(origin);
         setPosition(position);
         setSpeed(MOVEMENT_SPEED);
 
+        mAngle = 0f;
         mDamage = damage;
-        mTracker = new TargetTracker(target, this, this);
+        mTracker.setTarget(target);
+        mSprite.setIndex(getRandom().next(4));
+    }
 
-        StaticData s = (StaticData) getStaticData();
+    @Override
+    public String getEntityName() {
+        return ENTITY_NAME;
+    }
 
-        mSprite = getSpriteFactory().createStatic(Layers.SHOT, s.mSpriteTemplate);
-        mSprite.setListener(this);
-        mSprite.setIndex(RandomUtils.next(4));
+    @Override
+    public void reset() {
+        super.reset();
+        mTracker.setTarget(null);
     }
 
     @Override
@@ -68,7 +99,7 @@ public class CanonShot extends Shot implements SpriteTransformation, TargetTrack
 
     @Override
     public void tick() {
-        setDirection(mTracker.getTargetDirection());
+        mTracker.updateDirection();
         mAngle += ROTATION_STEP;
         super.tick();
         mTracker.tick();
@@ -76,7 +107,7 @@ public class CanonShot extends Shot implements SpriteTransformation, TargetTrack
 
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
+        transformer.translate(getPositionX(), getPositionY());
         transformer.rotate(mAngle);
     }
 
@@ -1,7 +1,9 @@
 package ch.logixisland.anuto.entity.shot;
 
 import ch.logixisland.anuto.R;
+import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
+import ch.logixisland.anuto.engine.logic.entity.EntityFactory;
 import ch.logixisland.anuto.engine.render.Layers;
 import ch.logixisland.anuto.engine.render.sprite.SpriteInstance;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTemplate;
@@ -10,14 +12,27 @@ import ch.logixisland.anuto.engine.render.sprite.SpriteTransformer;
 import ch.logixisland.anuto.engine.render.sprite.StaticSprite;
 import ch.logixisland.anuto.entity.Types;
 import ch.logixisland.anuto.entity.enemy.Enemy;
-import ch.logixisland.anuto.util.RandomUtils;
 import ch.logixisland.anuto.util.math.Vector2;
 
 public class CanonShotMg extends Shot implements SpriteTransformation {
 
+    public final static String ENTITY_NAME = "canonShotMg";
+
     private final static float HIT_RANGE = 0.5f;
     private final static float MOVEMENT_SPEED = 8.0f;
 
+    public static class Factory implements EntityFactory {
+        @Override
+        public String getEntityName() {
+            return ENTITY_NAME;
+        }
+
+        @Override
+        public Entity create(GameEngine gameEngine) {
+            return new CanonShotMg(gameEngine);
+        }
+    }
+
     private class StaticData {
         public SpriteTemplate mSpriteTemplate;
     }
@@ -27,20 +42,29 @@ public class CanonShotMg extends Shot implements SpriteTransformation {
 
     private StaticSprite mSprite;
 
-    public CanonShotMg(Entity origin, Vector2 position, Vector2 direction, float damage) {
-        super(origin);
+    private CanonShotMg(GameEngine gameEngine) {
+        super(gameEngine);
+
+        StaticData s = (StaticData) getStaticData();
+
+        mSprite = getSpriteFactory().createStatic(Layers.SHOT, s.mSpriteTemplate);
+        mSprite.setListener(this);
+    }
+
+    public void setup(Entity origin, Vector2 position, Vector2 direction, float damage) {
+        setOrigin(origin);
         setPosition(position);
         setSpeed(MOVEMENT_SPEED);
         setDirection(direction);
 
         mAngle = direction.angle();
         mDamage = damage;
+        mSprite.setIndex(getRandom().next(4));
+    }
 
-        StaticData s = (StaticData) getStaticData();
-
-        mSprite = getSpriteFactory().createStatic(Layers.SHOT, s.mSpriteTemplate);
-        mSprite.setListener(this);
-        mSprite.setIndex(RandomUtils.next(4));
+    @Override
+    public String getEntityName() {
+        return ENTITY_NAME;
     }
 
     @Override
@@ -71,8 +95,7 @@ public class CanonShotMg extends Shot implements SpriteTransformation {
     public void tick() {
         super.tick();
 
-        Enemy enemy = (Enemy) getGameEngine().getEntitiesByType(Types.ENEMY)
-                .filter(inRange(getPosition(), HIT_RANGE))
+        Enemy enemy = (Enemy) getGameEngine().getEntitiesInRange(Types.ENEMY, getPosition(), HIT_RANGE)
                 .first();
 
         if (enemy != null) {
@@ -87,7 +110,7 @@ public class CanonShotMg extends Shot implements SpriteTransformation {
 
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
+        transformer.translate(getPositionX(), getPositionY());
         transformer.rotate(mAngle);
     }
 }
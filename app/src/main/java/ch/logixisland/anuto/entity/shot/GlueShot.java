@@ -35,7 +35,7 @@ public class GlueShot extends Shot implements SpriteTransformation {
         mTarget = target;
 
         setSpeed(MOVEMENT_SPEED);
-        setDirection(getDirectionTo(target));
+        setDirectionTo(target);
 
         mIntensity = intensity;
         mDuration = duration;
@@ -89,6 +89,6 @@ public class GlueShot extends Shot implements SpriteTransformation {
 
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
+        transformer.translate(getPositionX(), getPositionY());
     }
 }
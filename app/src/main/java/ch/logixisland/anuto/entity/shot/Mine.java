@@ -1,5 +1,8 @@
 package ch.logixisland.anuto.entity.shot;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import ch.logixisland.anuto.R;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
@@ -12,11 +15,7 @@ import ch.logixisland.anuto.engine.render.sprite.SpriteTransformer;
 import ch.logixisland.anuto.engine.render.sprite.StaticSprite;
 import ch.logixisland.anuto.entity.Types;
 import ch.logixisland.anuto.entity.effect.Explosion;
-import ch.logixisland.anuto.entity.enemy.Enemy;
 import ch.logixisland.anuto.entity.enemy.Flyer;
-import ch.logixisland.anuto.util.RandomUtils;
-import ch.logixisland.anuto.util.iterator.Predicate;
-import ch.logixisland.anuto.util.iterator.StreamIterator;
 import ch.logixisland.anuto.util.math.Function;
 import ch.logixisland.anuto.util.math.SampledFunction;
 import ch.logixisland.anuto.util.math.Vector2;
@@ -48,20 +47,22 @@ public class Mine extends Shot implements SpriteTransformation {
     private StaticSprite mSpriteMine;
 
     private final TickTimer mUpdateTimer = TickTimer.createInterval(0.1f);
+    private final List<Entity> mBuffer = new ArrayList<>();
+    private boolean mTriggered;
 
     public Mine(Entity origin, Vector2 position, Vector2 target, float damage, float radius) {
         super(origin);
 
         setPosition(position);
         setSpeed(getDistanceTo(target) / TIME_TO_TARGET);
-        setDirection(getDirectionTo(target));
+        setDirectionTo(target);
 
         mFlying = true;
         mDamage = damage;
         mRadius = radius;
         mTarget = target;
 
-        mRotationStep = RandomUtils.next(ROTATION_RATE_MIN, ROTATION_RATE_MAX) * 360f / GameEngine.TARGET_FRAME_RATE;
+        mRotationStep = getRandom().next(ROTATION_RATE_MIN, ROTATION_RATE_MAX) * 360f / GameEngine.TARGET_FRAME_RATE;
 
         float x1 = (float) Math.sqrt(HEIGHT_SCALING_PEAK - HEIGHT_SCALING_START);
         float x2 = (float) Math.sqrt(HEIGHT_SCALING_PEAK - HEIGHT_SCALING_STOP);
@@ -84,7 +85,7 @@ public class Mine extends Shot implements SpriteTransformation {
         mFlying = false;
         mDamage = damage;
         mRadius = radius;
-        mAngle = RandomUtils.next(0f, 360f);
+        mAngle = getRandom().next(0f, 360f);
 
         mHeightScalingFunction = Function.constant(HEIGHT_SCALING_STOP).sample();
 
@@ -94,7 +95,7 @@ public class Mine extends Shot implements SpriteTransformation {
     private void createAssets() {
         StaticData s = (StaticData) getStaticData();
 
-        int index = RandomUtils.next(4);
+        int index = getRandom().next(4);
 
         mSpriteFlying = getSpriteFactory().createStatic(Layers.SHOT, s.mSpriteTemplate);
         mSpriteFlying.setListener(this);
@@ -141,6 +142,26 @@ public class Mine extends Shot implements SpriteTransformation {
         }
     }
 
+    @Override
+    public void sense() {
+        super.sense();
+
+        if (mFlying || !mUpdateTimer.tick()) {
+            return;
+        }
+
+        List<Entity> enemiesInRange = getGameEngine().getEntitiesInRange(Types.ENEMY, getPosition(), TRIGGER_RADIUS, mBuffer);
+
+        for (int i = 0; i < enemiesInRange.size(); i++) {
+            if (!(enemiesInRange.get(i) instanceof Flyer)) {
+                mTriggered = true;
+                break;
+            }
+        }
+
+        enemiesInRange.clear();
+    }
+
     @Override
     public void tick() {
         super.tick();
@@ -156,28 +177,18 @@ public class Mine extends Shot implements SpriteTransformation {
                 mFlying = false;
                 setSpeed(0f);
             }
-        } else if (mUpdateTimer.tick()) {
-            StreamIterator<Enemy> enemiesInRange = getGameEngine().getEntitiesByType(Types.ENEMY)
-                    .filter(inRange(getPosition(), TRIGGER_RADIUS))
-                    .cast(Enemy.class)
-                    .filter(new Predicate<Enemy>() {
-                        @Override
-                        public boolean apply(Enemy value) {
-                            return !(value instanceof Flyer);
-                        }
-                    });
-
-            if (!enemiesInRange.isEmpty()) {
-                getGameEngine().add(new Explosion(getOrigin(), getPosition(), mDamage, mRadius));
-                this.remove();
-            }
+        } else if (mTriggered) {
+            Explosion explosion = (Explosion) getGameEngine().createEntity(Explosion.ENTITY_NAME);
+            explosion.setup(getOrigin(), getPosition(), mDamage, mRadius);
+            getGameEngine().add(explosion);
+            this.remove();
         }
     }
 
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
         float s = mHeightScalingFunction.getValue();
-        transformer.translate(getPosition());
+        transformer.translate(getPositionX(), getPositionY());
         transformer.scale(s);
         transformer.rotate(mAngle);
     }
@@ -3,6 +3,7 @@ package ch.logixisland.anuto.entity.shot;
 import ch.logixisland.anuto.R;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
+import ch.logixisland.anuto.engine.logic.entity.EntityFactory;
 import ch.logixisland.anuto.engine.render.Layers;
 import ch.logixisland.anuto.engine.render.sprite.SpriteInstance;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTemplate;
@@ -10,18 +11,31 @@ import ch.logixisland.anuto.engine.render.sprite.SpriteTransformation;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTransformer;
 import ch.logixisland.anuto.engine.render.sprite.StaticSprite;
 import ch.logixisland.anuto.entity.effect.Explosion;
-import ch.logixisland.anuto.util.RandomUtils;
 import ch.logixisland.anuto.util.math.Function;
 import ch.logixisland.anuto.util.math.SampledFunction;
 import ch.logixisland.anuto.util.math.Vector2;
 
 public class MortarShot extends Shot implements SpriteTransformation {
 
+    public final static String ENTITY_NAME = "mortarShot";
+
     public final static float TIME_TO_TARGET = 1.5f;
     private final static float HEIGHT_SCALING_START = 0.5f;
     private final static float HEIGHT_SCALING_STOP = 1.0f;
     private final static float HEIGHT_SCALING_PEAK = 1.5f;
 
+    public static class Factory implements EntityFactory {
+        @Override
+        public String getEntityName() {
+            return ENTITY_NAME;
+        }
+
+        @Override
+        public Entity create(GameEngine gameEngine) {
+            return new MortarShot(gameEngine);
+        }
+    }
+
     private class StaticData {
         SpriteTemplate mSpriteTemplate;
     }
@@ -33,15 +47,8 @@ public class MortarShot extends Shot implements SpriteTransformation {
 
     private StaticSprite mSprite;
 
-    public MortarShot(Entity origin, Vector2 position, Vector2 target, float damage, float radius) {
-        super(origin);
-        setPosition(position);
-        setSpeed(getDistanceTo(target) / TIME_TO_TARGET);
-        setDirection(getDirectionTo(target));
-
-        mDamage = damage;
-        mRadius = radius;
-        mAngle = RandomUtils.next(360f);
+    private MortarShot(GameEngine gameEngine) {
+        super(gameEngine);
 
         StaticData s = (StaticData) getStaticData();
 
@@ -56,7 +63,24 @@ public class MortarShot extends Shot implements SpriteTransformation {
 
         mSprite = getSpriteFactory().createStatic(Layers.SHOT, s.mSpriteTemplate);
         mSprite.setListener(this);
-        mSprite.setIndex(RandomUtils.next(4));
+    }
+
+    public void setup(Entity origin, Vector2 position, Vector2 target, float damage, float radius) {
+        setOrigin(origin);
+        setPosition(position);
+        setSpeed(getDistanceTo(target) / TIME_TO_TARGET);
+        setDirectionTo(target);
+
+        mDamage = damage;
+        mRadius = radius;
+        mAngle = getRandom().next(360f);
+        mHeightScalingFunction.reset();
+        mSprite.setIndex(getRandom().next(4));
+    }
+
+    @Override
+    public String getEntityName() {
+        return ENTITY_NAME;
     }
 
     @Override
@@ -86,7 +110,7 @@ public class MortarShot extends Shot implements SpriteTransformation {
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
         float s = mHeightScalingFunction.getValue();
-        transformer.translate(getPosition());
+        transformer.translate(getPositionX(), getPositionY());
         transformer.scale(s);
         transformer.rotate(mAngle);
     }
@@ -97,7 +121,9 @@ public class MortarShot extends Shot implements SpriteTransformation {
 
         mHeightScalingFunction.step();
         if (mHeightScalingFunction.getPosition() >= GameEngine.TARGET_FRAME_RATE * TIME_TO_TARGET) {
-            getGameEngine().add(new Explosion(getOrigin(), getPosition(), mDamage, mRadius));
+            Explosion explosion = (Explosion) getGameEngine().createEntity(Explosion.ENTITY_NAME);
+            explosion.setup(getOrigin(), getPosition(), mDamage, mRadius);
+            getGameEngine().add(explosion);
             this.remove();
         }
     }
@@ -1,7 +1,9 @@
 package ch.logixisland.anuto.entity.shot;
 
 import ch.logixisland.anuto.R;
+import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
+import ch.logixisland.anuto.engine.logic.entity.EntityFactory;
 import ch.logixisland.anuto.engine.render.Layers;
 import ch.logixisland.anuto.engine.render.sprite.AnimatedSprite;
 import ch.logixisland.anuto.engine.render.sprite.SpriteInstance;
@@ -12,14 +14,27 @@ import ch.logixisland.anuto.engine.render.sprite.StaticSprite;
 import ch.logixisland.anuto.entity.Types;
 import ch.logixisland.anuto.entity.effect.Explosion;
 import ch.logixisland.anuto.entity.enemy.Enemy;
-import ch.logixisland.anuto.util.RandomUtils;
 import ch.logixisland.anuto.util.math.Vector2;
 
 public class Rocket extends Shot implements SpriteTransformation, TargetTracker.Listener {
 
+    public final static String ENTITY_NAME = "rocket";
+
     private final static float MOVEMENT_SPEED = 2.5f;
     private final static float ANIMATION_SPEED = 3f;
 
+    public static class Factory implements EntityFactory {
+        @Override
+        public String getEntityName() {
+            return ENTITY_NAME;
+        }
+
+        @Override
+        public Entity create(GameEngine gameEngine) {
+            return new Rocket(gameEngine);
+        }
+    }
+
     private class StaticData {
         SpriteTemplate mSpriteTemplate;
         SpriteTemplate mSpriteTemplateFire;
@@ -33,21 +48,14 @@ public class Rocket extends Shot implements SpriteTransformation, TargetTracker.
     private StaticSprite mSprite;
     private AnimatedSprite mSpriteFire;
 
-    public Rocket(Entity origin, Vector2 position, float damage, float radius) {
-        super(origin);
-        setPosition(position);
-        setSpeed(MOVEMENT_SPEED);
-        setEnabled(false);
-
-        mDamage = damage;
-        mRadius = radius;
+    private Rocket(GameEngine gameEngine) {
+        super(gameEngine);
         mTracker = new TargetTracker(this, this);
 
         StaticData s = (StaticData) getStaticData();
 
         mSprite = getSpriteFactory().createStatic(Layers.SHOT, s.mSpriteTemplate);
         mSprite.setListener(this);
-        mSprite.setIndex(RandomUtils.next(4));
 
         mSpriteFire = getSpriteFactory().createAnimated(Layers.SHOT, s.mSpriteTemplateFire);
         mSpriteFire.setListener(this);
@@ -55,6 +63,29 @@ public class Rocket extends Shot implements SpriteTransformation, TargetTracker.
         mSpriteFire.setFrequency(ANIMATION_SPEED);
     }
 
+    public void setup(Entity origin, Vector2 position, float damage, float radius) {
+        setOrigin(origin);
+        setPosition(position);
+        setSpeed(MOVEMENT_SPEED);
+        setEnabled(false);
+
+        mDamage = damage;
+        mRadius = radius;
+        mAngle = 0f;
+        mSprite.setIndex(getRandom().next(4));
+    }
+
+    @Override
+    public String getEntityName() {
+        return ENTITY_NAME;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        mTracker.setTarget(null);
+    }
+
     public void setAngle(float angle) {
         mAngle = angle;
     }
@@ -110,16 +141,15 @@ public class Rocket extends Shot implements SpriteTransformation, TargetTracker.
     }
 
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
+        transformer.translate(getPositionX(), getPositionY());
         transformer.rotate(mAngle);
     }
 
     @Override
     public void tick() {
         if (isEnabled()) {
-            Vector2 direction = mTracker.getTargetDirection();
-            setDirection(direction);
-            mAngle = direction.angle();
+            mTracker.updateDirection();
+            mAngle = getDirectionAngle();
 
             mSpriteFire.tick();
         }
@@ -130,8 +160,7 @@ public class Rocket extends Shot implements SpriteTransformation, TargetTracker.
 
     @Override
     public void targetLost(Enemy target) {
-        Enemy closest = (Enemy) getGameEngine().getEntitiesByType(Types.ENEMY)
-                .min(distanceTo(getPosition()));
+        Enemy closest = (Enemy) getGameEngine().getNearestEntity(Types.ENEMY, getPosition());
 
         if (closest == null) {
             this.remove();
@@ -142,7 +171,9 @@ public class Rocket extends Shot implements SpriteTransformation, TargetTracker.
 
     @Override
     public void targetReached(Enemy target) {
-        getGameEngine().add(new Explosion(getOrigin(), target.getPosition(), mDamage, mRadius));
+        Explosion explosion = (Explosion) getGameEngine().createEntity(Explosion.ENTITY_NAME);
+        explosion.setup(getOrigin(), target.getPosition(), mDamage, mRadius);
+        getGameEngine().add(explosion);
         this.remove();
     }
 }
@@ -3,15 +3,21 @@ package ch.logixisland.anuto.entity.shot;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.entity.Types;
+import ch.logixisland.anuto.util.math.MutableVector2;
 import ch.logixisland.anuto.util.math.Vector2;
 
 public abstract class Shot extends Entity {
 
     private Entity mOrigin;
     private float mSpeed;
-    private Vector2 mDirection;
+    private final MutableVector2 mDirection = new MutableVector2();
+    private Entity mHomingTarget;
     private boolean mEnabled = true;
 
+    Shot(GameEngine gameEngine) {
+        super(gameEngine);
+    }
+
     Shot(Entity origin) {
         super(origin.getGameEngine());
         mOrigin = origin;
@@ -22,12 +28,28 @@ public abstract class Shot extends Entity {
         return Types.SHOT;
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        mOrigin = null;
+        mSpeed = 0f;
+        mDirection.set(0f, 0f);
+        mHomingTarget = null;
+        mEnabled = true;
+    }
+
     @Override
     public void tick() {
         super.tick();
 
         if (mEnabled) {
-            move(mDirection.mul(mSpeed / GameEngine.TARGET_FRAME_RATE));
+            float step = mSpeed / GameEngine.TARGET_FRAME_RATE;
+
+            if (mHomingTarget != null) {
+                moveTowards(mHomingTarget.getPositionX(), mHomingTarget.getPositionY(), step);
+            } else {
+                move(mDirection.x() * step, mDirection.y() * step);
+            }
         }
     }
 
@@ -43,6 +65,10 @@ public abstract class Shot extends Entity {
         return mOrigin;
     }
 
+    protected void setOrigin(Entity origin) {
+        mOrigin = origin;
+    }
+
     public float getSpeed() {
         return mSpeed;
     }
@@ -51,8 +77,24 @@ public abstract class Shot extends Entity {
         this.mSpeed = speed;
     }
 
+    protected float getDirectionAngle() {
+        return mDirection.angle();
+    }
+
+    void setHomingTarget(Entity target) {
+        mHomingTarget = target;
+    }
+
     protected void setDirection(Vector2 direction) {
-        this.mDirection = direction;
+        mDirection.set(direction);
+    }
+
+    protected void setDirectionTo(Entity target) {
+        mDirection.setDirection(getPositionX(), getPositionY(), target.getPositionX(), target.getPositionY());
+    }
+
+    protected void setDirectionTo(Vector2 target) {
+        mDirection.setDirection(getPositionX(), getPositionY(), target.x(), target.y());
     }
 
 }
@@ -3,7 +3,6 @@ package ch.logixisland.anuto.entity.shot;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.entity.enemy.Enemy;
-import ch.logixisland.anuto.util.math.Vector2;
 
 public class TargetTracker implements Entity.Listener {
 
@@ -32,10 +31,11 @@ public class TargetTracker implements Entity.Listener {
     public void setTarget(Enemy target) {
         mTarget = target;
         mTargetReached = false;
+        mShot.setHomingTarget(target);
     }
 
-    Vector2 getTargetDirection() {
-        return mShot.getDirectionTo(mTarget);
+    void updateDirection() {
+        mShot.setDirectionTo(mTarget);
     }
 
     public void tick() {
@@ -53,6 +53,7 @@ public class TargetTracker implements Entity.Listener {
     public void entityRemoved(Entity entity) {
         if (!mTargetReached) {
             entity.removeListener(this);
+            mShot.setHomingTarget(null);
             mListener.targetLost(mTarget);
         }
     }
@@ -4,36 +4,61 @@ import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.engine.logic.loop.TickTimer;
 import ch.logixisland.anuto.entity.Types;
 import ch.logixisland.anuto.entity.enemy.Enemy;
+import ch.logixisland.anuto.entity.enemy.EnemyRanking;
 import ch.logixisland.anuto.util.iterator.StreamIterator;
 
 public class Aimer implements Entity.Listener {
 
-    private static TowerStrategy sDefaultStrategy = TowerStrategy.Closest;
-    private static boolean sDefaultLockTarget = true;
-
     private Enemy mTarget;
-    private TowerStrategy mStrategy;
-    private boolean mLockTarget;
+    private TowerStrategy mStrategy = TowerStrategy.Closest;
+    private boolean mLockTarget = true;
 
     private final Tower mTower;
     private final TickTimer mUpdateTimer = TickTimer.createInterval(0.1f);
+    private final EnemyRanking mRanking;
+
+    private boolean mSensed;
+    private Enemy mSensedTarget;
 
     public Aimer(Tower tower) {
         mTower = tower;
-        mStrategy = sDefaultStrategy;
-        mLockTarget = sDefaultLockTarget;
+        mRanking = EnemyRanking.get(tower.getGameEngine());
+    }
+
+    public void sense() {
+        mSensed = mUpdateTimer.tick();
+
+        if (!mSensed) {
+            return;
+        }
+
+        mSensedTarget = mTarget;
+
+        if (mSensedTarget != null && mTower.getDistanceTo(mSensedTarget) > mTower.getRange()) {
+            mSensedTarget = null;
+        }
+
+        if (mSensedTarget == null || !mLockTarget) {
+            mSensedTarget = mRanking.getTarget(mStrategy, mTower.getPosition(), mTower.getRange());
+        }
     }
 
     public void tick() {
-        if (mUpdateTimer.tick()) {
-            if (mTarget != null && mTower.getDistanceTo(mTarget) > mTower.getRange()) {
-                setTarget(null);
-            }
-
-            if (mTarget == null || !mLockTarget) {
-                nextTarget();
-            }
+        if (!mSensed) {
+            return;
+        }
+
+        mSensed = false;
+
+        if (mSensedTarget != null && !mSensedTarget.isAdded()) {
+            mSensedTarget = null;
+        }
+
+        if (mSensedTarget != mTarget) {
+            setTarget(mSensedTarget);
         }
+
+        mSensedTarget = null;
     }
 
     public TowerStrategy getStrategy() {
@@ -42,7 +67,6 @@ public class Aimer implements Entity.Listener {
 
     public void setStrategy(TowerStrategy strategy) {
         mStrategy = strategy;
-        sDefaultStrategy = strategy;
     }
 
     public boolean doesLockTarget() {
@@ -51,7 +75,6 @@ public class Aimer implements Entity.Listener {
 
     public void setLockTarget(boolean lock) {
         mLockTarget = lock;
-        sDefaultLockTarget = lock;
     }
 
     public Enemy getTarget() {
@@ -71,34 +94,10 @@ public class Aimer implements Entity.Listener {
     }
 
     public StreamIterator<Enemy> getPossibleTargets() {
-        return mTower.getGameEngine().getEntitiesByType(Types.ENEMY)
-                .filter(Entity.inRange(mTower.getPosition(), mTower.getRange()))
+        return mTower.getGameEngine().getEntitiesInRange(Types.ENEMY, mTower.getPosition(), mTower.getRange())
                 .cast(Enemy.class);
     }
 
-    private void nextTarget() {
-        switch (mStrategy) {
-            case Closest:
-                setTarget(getPossibleTargets().min(Entity.distanceTo(mTower.getPosition())));
-                break;
-
-            case Strongest:
-                setTarget(getPossibleTargets().max(Enemy.health()));
-                break;
-
-            case Weakest:
-                setTarget(getPossibleTargets().min(Enemy.health()));
-                break;
-
-            case First:
-                setTarget(getPossibleTargets().min(Enemy.distanceRemaining()));
-                break;
-
-            case Last:
-                setTarget(getPossibleTargets().max(Enemy.distanceRemaining()));
-        }
-    }
-
     @Override
     public void entityRemoved(Entity entity) {
         setTarget(null);
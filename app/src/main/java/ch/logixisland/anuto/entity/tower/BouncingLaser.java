@@ -19,7 +19,6 @@ import ch.logixisland.anuto.engine.render.sprite.SpriteTransformation;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTransformer;
 import ch.logixisland.anuto.engine.render.sprite.StaticSprite;
 import ch.logixisland.anuto.engine.sound.Sound;
-import ch.logixisland.anuto.util.RandomUtils;
 import ch.logixisland.anuto.util.math.Vector2;
 
 public class BouncingLaser extends Tower implements SpriteTransformation {
@@ -69,11 +68,9 @@ public class BouncingLaser extends Tower implements SpriteTransformation {
         mSettings = settings;
 
         mSpriteBase = getSpriteFactory().createStatic(Layers.TOWER_BASE, s.mSpriteTemplateBase);
-        mSpriteBase.setIndex(RandomUtils.next(4));
         mSpriteBase.setListener(this);
 
         mSpriteCanon = getSpriteFactory().createStatic(Layers.TOWER, s.mSpriteTemplateCanon);
-        mSpriteCanon.setIndex(RandomUtils.next(4));
         mSpriteCanon.setListener(this);
 
         mSound = getSoundFactory().createSound(R.raw.laser2_zap);
@@ -101,6 +98,9 @@ public class BouncingLaser extends Tower implements SpriteTransformation {
     public void init() {
         super.init();
 
+        mSpriteBase.setIndex(getRandom().next(4));
+        mSpriteCanon.setIndex(getRandom().next(4));
+
         getGameEngine().add(mSpriteBase);
         getGameEngine().add(mSpriteCanon);
     }
@@ -123,8 +123,10 @@ public class BouncingLaser extends Tower implements SpriteTransformation {
 
             if (isReloaded()) {
                 Vector2 origin = getPosition().add(Vector2.polar(LASER_SPAWN_OFFSET, mAngle));
-                getGameEngine().add(new ch.logixisland.anuto.entity.effect.BouncingLaser(
-                        this, origin, mAimer.getTarget(), getDamage(), mSettings.getBounceCount(), mSettings.getBounceDistance()));
+                ch.logixisland.anuto.entity.effect.BouncingLaser laser = (ch.logixisland.anuto.entity.effect.BouncingLaser)
+                        getGameEngine().createEntity(ch.logixisland.anuto.entity.effect.BouncingLaser.ENTITY_NAME);
+                laser.setup(this, origin, mAimer.getTarget(), getDamage(), mSettings.getBounceCount(), mSettings.getBounceDistance());
+                getGameEngine().add(laser);
                 setReloaded(false);
                 mSound.play();
             }
@@ -138,7 +140,7 @@ public class BouncingLaser extends Tower implements SpriteTransformation {
 
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
+        transformer.translate(getPositionX(), getPositionY());
         transformer.rotate(mAngle);
     }
 
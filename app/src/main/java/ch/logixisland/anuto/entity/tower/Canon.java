@@ -20,8 +20,6 @@ import ch.logixisland.anuto.engine.render.sprite.SpriteTransformer;
 import ch.logixisland.anuto.engine.render.sprite.StaticSprite;
 import ch.logixisland.anuto.engine.sound.Sound;
 import ch.logixisland.anuto.entity.shot.CanonShot;
-import ch.logixisland.anuto.entity.shot.Shot;
-import ch.logixisland.anuto.util.RandomUtils;
 import ch.logixisland.anuto.util.math.Function;
 import ch.logixisland.anuto.util.math.SampledFunction;
 import ch.logixisland.anuto.util.math.Vector2;
@@ -79,11 +77,9 @@ public class Canon extends Tower implements SpriteTransformation {
 
         mSpriteBase = getSpriteFactory().createStatic(Layers.TOWER_BASE, s.mSpriteTemplateBase);
         mSpriteBase.setListener(this);
-        mSpriteBase.setIndex(RandomUtils.next(4));
 
         mSpriteCanon = getSpriteFactory().createStatic(Layers.TOWER, s.mSpriteTemplateCanon);
         mSpriteCanon.setListener(this);
-        mSpriteCanon.setIndex(RandomUtils.next(4));
 
         mSound = getSoundFactory().createSound(R.raw.gun3_dit);
         mSound.setVolume(0.5f);
@@ -111,6 +107,9 @@ public class Canon extends Tower implements SpriteTransformation {
     public void init() {
         super.init();
 
+        mSpriteBase.setIndex(getRandom().next(4));
+        mSpriteCanon.setIndex(getRandom().next(4));
+
         getGameEngine().add(mSpriteBase);
         getGameEngine().add(mSpriteCanon);
     }
@@ -132,7 +131,8 @@ public class Canon extends Tower implements SpriteTransformation {
             mAngle = getAngleTo(mAimer.getTarget());
 
             if (isReloaded()) {
-                Shot shot = new CanonShot(this, getPosition(), mAimer.getTarget(), getDamage());
+                CanonShot shot = (CanonShot) getGameEngine().createEntity(CanonShot.ENTITY_NAME);
+                shot.setup(this, getPosition(), mAimer.getTarget(), getDamage());
                 shot.move(Vector2.polar(SHOT_SPAWN_OFFSET, mAngle));
                 getGameEngine().add(shot);
                 mSound.play();
@@ -158,7 +158,7 @@ public class Canon extends Tower implements SpriteTransformation {
 
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
+        transformer.translate(getPositionX(), getPositionY());
         transformer.rotate(mAngle);
 
         if (sprite == mSpriteCanon && mReboundActive) {
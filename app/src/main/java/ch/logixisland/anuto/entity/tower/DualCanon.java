@@ -20,8 +20,6 @@ import ch.logixisland.anuto.engine.render.sprite.SpriteTransformer;
 import ch.logixisland.anuto.engine.render.sprite.StaticSprite;
 import ch.logixisland.anuto.engine.sound.Sound;
 import ch.logixisland.anuto.entity.shot.CanonShot;
-import ch.logixisland.anuto.entity.shot.Shot;
-import ch.logixisland.anuto.util.RandomUtils;
 import ch.logixisland.anuto.util.math.Function;
 import ch.logixisland.anuto.util.math.SampledFunction;
 import ch.logixisland.anuto.util.math.Vector2;
@@ -84,11 +82,9 @@ public class DualCanon extends Tower implements SpriteTransformation {
 
         mSpriteBase = getSpriteFactory().createStatic(Layers.TOWER_BASE, s.mSpriteTemplateBase);
         mSpriteBase.setListener(this);
-        mSpriteBase.setIndex(RandomUtils.next(4));
 
         mSpriteTower = getSpriteFactory().createStatic(Layers.TOWER_LOWER, s.mSpriteTemplateTower);
         mSpriteTower.setListener(this);
-        mSpriteTower.setIndex(RandomUtils.next(4));
 
         for (int i = 0; i < mCanons.length; i++) {
             mCanons[i] = new SubCanon();
@@ -97,7 +93,6 @@ public class DualCanon extends Tower implements SpriteTransformation {
 
             mCanons[i].sprite = getSpriteFactory().createStatic(Layers.TOWER, s.mSpriteTemplateCanon);
             mCanons[i].sprite.setListener(this);
-            mCanons[i].sprite.setIndex(RandomUtils.next(4));
         }
 
         mSound = getSoundFactory().createSound(R.raw.gun3_dit);
@@ -129,6 +124,13 @@ public class DualCanon extends Tower implements SpriteTransformation {
     public void init() {
         super.init();
 
+        mSpriteBase.setIndex(getRandom().next(4));
+        mSpriteTower.setIndex(getRandom().next(4));
+
+        for (SubCanon canon : mCanons) {
+            canon.sprite.setIndex(getRandom().next(4));
+        }
+
         getGameEngine().add(mSpriteBase);
         getGameEngine().add(mSpriteTower);
 
@@ -161,7 +163,8 @@ public class DualCanon extends Tower implements SpriteTransformation {
 
             if (isReloaded()) {
                 if (!mShoot2) {
-                    Shot shot = new CanonShot(this, getPosition(), mAimer.getTarget(), getDamage());
+                    CanonShot shot = (CanonShot) getGameEngine().createEntity(CanonShot.ENTITY_NAME);
+                    shot.setup(this, getPosition(), mAimer.getTarget(), getDamage());
                     shot.move(Vector2.polar(SHOT_SPAWN_OFFSET, mAngle));
                     shot.move(Vector2.polar(0.3f, mAngle + 90f));
                     getGameEngine().add(shot);
@@ -170,7 +173,8 @@ public class DualCanon extends Tower implements SpriteTransformation {
                     mCanons[0].reboundActive = true;
                     mShoot2 = true;
                 } else {
-                    Shot shot = new CanonShot(this, getPosition(), mAimer.getTarget(), getDamage());
+                    CanonShot shot = (CanonShot) getGameEngine().createEntity(CanonShot.ENTITY_NAME);
+                    shot.setup(this, getPosition(), mAimer.getTarget(), getDamage());
                     shot.move(Vector2.polar(SHOT_SPAWN_OFFSET, mAngle));
                     shot.move(Vector2.polar(0.3f, mAngle - 90f));
                     getGameEngine().add(shot);
@@ -208,7 +212,7 @@ public class DualCanon extends Tower implements SpriteTransformation {
 
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
+        transformer.translate(getPositionX(), getPositionY());
         transformer.rotate(mAngle);
 
         if (sprite == mCanons[0].sprite) {
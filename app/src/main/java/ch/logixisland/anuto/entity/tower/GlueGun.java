@@ -21,7 +21,6 @@ import ch.logixisland.anuto.engine.render.sprite.SpriteTransformer;
 import ch.logixisland.anuto.engine.render.sprite.StaticSprite;
 import ch.logixisland.anuto.engine.sound.Sound;
 import ch.logixisland.anuto.entity.shot.GlueShot;
-import ch.logixisland.anuto.util.RandomUtils;
 import ch.logixisland.anuto.util.math.Vector2;
 
 public class GlueGun extends Tower implements SpriteTransformation {
@@ -74,7 +73,6 @@ public class GlueGun extends Tower implements SpriteTransformation {
 
         mSpriteBase = getSpriteFactory().createStatic(Layers.TOWER_BASE, s.mSpriteTemplateBase);
         mSpriteBase.setListener(this);
-        mSpriteBase.setIndex(RandomUtils.next(4));
 
         mSpriteCanon = getSpriteFactory().createAnimated(Layers.TOWER, s.mSpriteTemplateCanon);
         mSpriteCanon.setListener(this);
@@ -106,6 +104,8 @@ public class GlueGun extends Tower implements SpriteTransformation {
     public void init() {
         super.init();
 
+        mSpriteBase.setIndex(getRandom().next(4));
+
         getGameEngine().add(mSpriteBase);
         getGameEngine().add(mSpriteCanon);
     }
@@ -157,7 +157,7 @@ public class GlueGun extends Tower implements SpriteTransformation {
 
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
+        transformer.translate(getPositionX(), getPositionY());
         transformer.rotate(mAngle);
     }
 
@@ -23,7 +23,6 @@ import ch.logixisland.anuto.engine.render.sprite.SpriteTransformation;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTransformer;
 import ch.logixisland.anuto.engine.render.sprite.StaticSprite;
 import ch.logixisland.anuto.entity.shot.GlueShot;
-import ch.logixisland.anuto.util.RandomUtils;
 import ch.logixisland.anuto.util.iterator.Predicate;
 import ch.logixisland.anuto.util.iterator.StreamIterator;
 import ch.logixisland.anuto.util.math.Intersections;
@@ -69,7 +68,7 @@ public class GlueTower extends Tower implements SpriteTransformation {
 
         @Override
         public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-            transformer.translate(getPosition());
+            transformer.translate(getPositionX(), getPositionY());
             transformer.rotate(mAngle);
             transformer.translate(mCanonOffset, 0);
         }
@@ -98,11 +97,9 @@ public class GlueTower extends Tower implements SpriteTransformation {
 
         mSpriteBase = getSpriteFactory().createStatic(Layers.TOWER, s.mSpriteTemplateBase);
         mSpriteBase.setListener(this);
-        mSpriteBase.setIndex(RandomUtils.next(4));
 
         mSpriteTower = getSpriteFactory().createStatic(Layers.TOWER_UPPER, s.mSpriteTemplateTower);
         mSpriteTower.setListener(this);
-        mSpriteTower.setIndex(RandomUtils.next(6));
 
         for (int i = 0; i < mCanons.length; i++) {
             SubCanon c = new SubCanon();
@@ -138,6 +135,9 @@ public class GlueTower extends Tower implements SpriteTransformation {
     public void init() {
         super.init();
 
+        mSpriteBase.setIndex(getRandom().next(4));
+        mSpriteTower.setIndex(getRandom().next(6));
+
         getGameEngine().add(mSpriteBase);
         getGameEngine().add(mSpriteTower);
 
@@ -200,7 +200,7 @@ public class GlueTower extends Tower implements SpriteTransformation {
 
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
+        transformer.translate(getPositionX(), getPositionY());
     }
 
     @Override
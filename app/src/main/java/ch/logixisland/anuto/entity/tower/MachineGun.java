@@ -21,8 +21,6 @@ import ch.logixisland.anuto.engine.render.sprite.SpriteTransformer;
 import ch.logixisland.anuto.engine.render.sprite.StaticSprite;
 import ch.logixisland.anuto.engine.sound.Sound;
 import ch.logixisland.anuto.entity.shot.CanonShotMg;
-import ch.logixisland.anuto.entity.shot.Shot;
-import ch.logixisland.anuto.util.RandomUtils;
 import ch.logixisland.anuto.util.math.Vector2;
 
 public class MachineGun extends Tower implements SpriteTransformation {
@@ -68,7 +66,6 @@ public class MachineGun extends Tower implements SpriteTransformation {
 
         mSpriteBase = getSpriteFactory().createStatic(Layers.TOWER_BASE, s.mSpriteTemplateBase);
         mSpriteBase.setListener(this);
-        mSpriteBase.setIndex(RandomUtils.next(4));
 
         mSpriteCanon = getSpriteFactory().createAnimated(Layers.TOWER, s.mSpriteTemplateCanon);
         mSpriteCanon.setListener(this);
@@ -101,6 +98,8 @@ public class MachineGun extends Tower implements SpriteTransformation {
     public void init() {
         super.init();
 
+        mSpriteBase.setIndex(getRandom().next(4));
+
         getGameEngine().add(mSpriteBase);
         getGameEngine().add(mSpriteCanon);
     }
@@ -123,7 +122,8 @@ public class MachineGun extends Tower implements SpriteTransformation {
             mSpriteCanon.tick();
 
             if (isReloaded()) {
-                Shot shot = new CanonShotMg(this, getPosition(), getDirectionTo(mAimer.getTarget()), getDamage());
+                CanonShotMg shot = (CanonShotMg) getGameEngine().createEntity(CanonShotMg.ENTITY_NAME);
+                shot.setup(this, getPosition(), getDirectionTo(mAimer.getTarget()), getDamage());
                 shot.move(Vector2.polar(SHOT_SPAWN_OFFSET, mAngle));
                 getGameEngine().add(shot);
                 mShotCount++;
@@ -144,7 +144,7 @@ public class MachineGun extends Tower implements SpriteTransformation {
 
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
+        transformer.translate(getPositionX(), getPositionY());
         transformer.rotate(mAngle);
     }
 
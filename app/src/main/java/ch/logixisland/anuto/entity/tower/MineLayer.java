@@ -3,6 +3,7 @@ package ch.logixisland.anuto.entity.tower;
 import android.graphics.Canvas;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
@@ -25,7 +26,6 @@ import ch.logixisland.anuto.engine.render.sprite.SpriteTransformation;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTransformer;
 import ch.logixisland.anuto.engine.sound.Sound;
 import ch.logixisland.anuto.entity.shot.Mine;
-import ch.logixisland.anuto.util.RandomUtils;
 import ch.logixisland.anuto.util.math.Intersections;
 import ch.logixisland.anuto.util.math.Line;
 import ch.logixisland.anuto.util.math.Vector2;
@@ -61,13 +61,17 @@ public class MineLayer extends Tower implements SpriteTransformation {
             MineLayer mineLayer = (MineLayer) entity;
             TowerData data = super.writeEntityData(entity);
 
-            List<Vector2> minePositions = new ArrayList<>();
+            float[] minePositions = new float[mineLayer.mMines.size() * 2];
+            int count = 0;
+
             for (Mine mine : mineLayer.mMines) {
                 if (!mine.isFlying()) {
-                    minePositions.add(mine.getPosition());
+                    minePositions[count++] = mine.getPosition().x();
+                    minePositions[count++] = mine.getPosition().y();
                 }
             }
-            data.addDetail(MINE_POSITION_DETAIL, Vector2.serializeList(minePositions));
+
+            data.setPositions(Arrays.copyOf(minePositions, count));
 
             return data;
         }
@@ -77,15 +81,27 @@ public class MineLayer extends Tower implements SpriteTransformation {
             MineLayer mineLayer = (MineLayer) super.readEntityData(entityData);
             TowerData data = (TowerData) entityData;
 
-            for (Vector2 minePosition : Vector2.deserializeList(data.getDetail(MINE_POSITION_DETAIL))) {
-                Mine mine = new Mine(mineLayer, minePosition, mineLayer.getDamage(), mineLayer.mExplosionRadius);
-                mineLayer.mMines.add(mine);
-                mine.addListener(mineLayer.mMineListener);
-                getGameEngine().add(mine);
+            float[] minePositions = data.getPositions();
+
+            if (minePositions != null) {
+                for (int i = 0; i + 1 < minePositions.length; i += 2) {
+                    addMine(mineLayer, new Vector2(minePositions[i], minePositions[i + 1]));
+                }
+            } else if (data.getDetail(MINE_POSITION_DETAIL) != null) {
+                for (Vector2 minePosition : Vector2.deserializeList(data.getDetail(MINE_POSITION_DETAIL))) {
+                    addMine(mineLayer, minePosition);
+                }
             }
 
             return mineLayer;
         }
+
+        private void addMine(MineLayer mineLayer, Vector2 position) {
+            Mine mine = new Mine(mineLayer, position, mineLayer.getDamage(), mineLayer.mExplosionRadius);
+            mineLayer.mMines.add(mine);
+            mine.addListener(mineLayer.mMineListener);
+            getGameEngine().add(mine);
+        }
     }
 
     private static class StaticData {
@@ -126,7 +142,6 @@ public class MineLayer extends Tower implements SpriteTransformation {
         mSprite.setSequenceForwardBackward();
         mSprite.setInterval(ANIMATION_DURATION);
 
-        mAngle = RandomUtils.next(360f);
         mMaxMineCount = mSettings.getMaxMineCount();
         mExplosionRadius = mSettings.getExplosionRadius();
 
@@ -152,6 +167,8 @@ public class MineLayer extends Tower implements SpriteTransformation {
     public void init() {
         super.init();
 
+        mAngle = getRandom().next(360f);
+
         getGameEngine().add(mSprite);
     }
 
@@ -218,7 +235,7 @@ public class MineLayer extends Tower implements SpriteTransformation {
 
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
+        transformer.translate(getPositionX(), getPositionY());
         transformer.rotate(mAngle);
     }
 
@@ -245,7 +262,7 @@ public class MineLayer extends Tower implements SpriteTransformation {
             totalLen += section.length();
         }
 
-        float dist = RandomUtils.next(totalLen);
+        float dist = getRandom().next(totalLen);
 
         for (Line section : mSections) {
             float length = section.length();
@@ -21,7 +21,6 @@ import ch.logixisland.anuto.engine.render.sprite.SpriteTransformer;
 import ch.logixisland.anuto.engine.render.sprite.StaticSprite;
 import ch.logixisland.anuto.engine.sound.Sound;
 import ch.logixisland.anuto.entity.shot.MortarShot;
-import ch.logixisland.anuto.util.RandomUtils;
 import ch.logixisland.anuto.util.math.Vector2;
 
 public class Mortar extends Tower implements SpriteTransformation {
@@ -73,7 +72,6 @@ public class Mortar extends Tower implements SpriteTransformation {
         mExplosionRadius = mSettings.getExplosionRadius();
 
         mSpriteBase = getSpriteFactory().createStatic(Layers.TOWER_BASE, s.mSpriteTemplateBase);
-        mSpriteBase.setIndex(RandomUtils.next(4));
         mSpriteBase.setListener(this);
 
         mSpriteCanon = getSpriteFactory().createAnimated(Layers.TOWER, s.mSpriteTemplateCanon);
@@ -106,6 +104,8 @@ public class Mortar extends Tower implements SpriteTransformation {
     public void init() {
         super.init();
 
+        mSpriteBase.setIndex(getRandom().next(4));
+
         getGameEngine().add(mSpriteBase);
         getGameEngine().add(mSpriteCanon);
     }
@@ -131,11 +131,13 @@ public class Mortar extends Tower implements SpriteTransformation {
 
         if (mAimer.getTarget() != null && isReloaded()) {
             Vector2 targetPos = mAimer.getTarget().getPositionAfter(MortarShot.TIME_TO_TARGET);
-            targetPos = targetPos.add(Vector2.polar(RandomUtils.next(mSettings.getInaccuracy()), RandomUtils.next(360f)));
+            targetPos = targetPos.add(Vector2.polar(getRandom().next(mSettings.getInaccuracy()), getRandom().next(360f)));
             mAngle = getAngleTo(targetPos);
             Vector2 shotPos = getPosition().add(Vector2.polar(SHOT_SPAWN_OFFSET, mAngle));
 
-            getGameEngine().add(new MortarShot(this, shotPos, targetPos, getDamage(), mExplosionRadius));
+            MortarShot shot = (MortarShot) getGameEngine().createEntity(MortarShot.ENTITY_NAME);
+            shot.setup(this, shotPos, targetPos, getDamage(), mExplosionRadius);
+            getGameEngine().add(shot);
             mSound.play();
 
             setReloaded(false);
@@ -154,7 +156,7 @@ public class Mortar extends Tower implements SpriteTransformation {
 
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
+        transformer.translate(getPositionX(), getPositionY());
 
         if (sprite == mSpriteCanon) {
             transformer.rotate(mAngle);
@@ -21,7 +21,6 @@ import ch.logixisland.anuto.engine.render.sprite.SpriteTransformer;
 import ch.logixisland.anuto.engine.render.sprite.StaticSprite;
 import ch.logixisland.anuto.engine.sound.Sound;
 import ch.logixisland.anuto.entity.shot.Rocket;
-import ch.logixisland.anuto.util.RandomUtils;
 
 public class RocketLauncher extends Tower implements SpriteTransformation {
 
@@ -72,11 +71,9 @@ public class RocketLauncher extends Tower implements SpriteTransformation {
 
         mSprite = getSpriteFactory().createStatic(Layers.TOWER_BASE, s.mSpriteTemplate);
         mSprite.setListener(this);
-        mSprite.setIndex(RandomUtils.next(4));
 
         mSpriteRocket = getSpriteFactory().createStatic(Layers.TOWER, s.mSpriteTemplateRocket);
         mSpriteRocket.setListener(this);
-        mSpriteRocket.setIndex(RandomUtils.next(4));
 
         mExplosionRadius = settings.getExplosionRadius();
         mRocketLoadTimer = TickTimer.createInterval(ROCKET_LOAD_TIME);
@@ -106,6 +103,9 @@ public class RocketLauncher extends Tower implements SpriteTransformation {
     public void init() {
         super.init();
 
+        mSprite.setIndex(getRandom().next(4));
+        mSpriteRocket.setIndex(getRandom().next(4));
+
         getGameEngine().add(mSprite);
     }
 
@@ -132,7 +132,8 @@ public class RocketLauncher extends Tower implements SpriteTransformation {
         mAimer.tick();
 
         if (mRocket == null && mRocketLoadTimer.tick()) {
-            mRocket = new Rocket(this, getPosition(), getDamage(), mExplosionRadius);
+            mRocket = (Rocket) getGameEngine().createEntity(Rocket.ENTITY_NAME);
+            mRocket.setup(this, getPosition(), getDamage(), mExplosionRadius);
             mRocket.setAngle(mAngle);
             getGameEngine().add(mRocket);
         }
@@ -162,7 +163,7 @@ public class RocketLauncher extends Tower implements SpriteTransformation {
 
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
+        transformer.translate(getPositionX(), getPositionY());
         transformer.rotate(mAngle);
     }
 
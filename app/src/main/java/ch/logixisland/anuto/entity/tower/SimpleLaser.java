@@ -20,7 +20,6 @@ import ch.logixisland.anuto.engine.render.sprite.SpriteTransformer;
 import ch.logixisland.anuto.engine.render.sprite.StaticSprite;
 import ch.logixisland.anuto.engine.sound.Sound;
 import ch.logixisland.anuto.entity.effect.BouncingLaser;
-import ch.logixisland.anuto.util.RandomUtils;
 import ch.logixisland.anuto.util.math.Vector2;
 
 public class SimpleLaser extends Tower implements SpriteTransformation {
@@ -64,11 +63,9 @@ public class SimpleLaser extends Tower implements SpriteTransformation {
         StaticData s = (StaticData) getStaticData();
 
         mSpriteBase = getSpriteFactory().createStatic(Layers.TOWER_BASE, s.mSpriteTemplateBase);
-        mSpriteBase.setIndex(RandomUtils.next(4));
         mSpriteBase.setListener(this);
 
         mSpriteCanon = getSpriteFactory().createStatic(Layers.TOWER, s.mSpriteTemplateCanon);
-        mSpriteCanon.setIndex(RandomUtils.next(4));
         mSpriteCanon.setListener(this);
 
         mSound = getSoundFactory().createSound(R.raw.laser1_zz);
@@ -96,6 +93,9 @@ public class SimpleLaser extends Tower implements SpriteTransformation {
     public void init() {
         super.init();
 
+        mSpriteBase.setIndex(getRandom().next(4));
+        mSpriteCanon.setIndex(getRandom().next(4));
+
         getGameEngine().add(mSpriteBase);
         getGameEngine().add(mSpriteCanon);
     }
@@ -118,7 +118,9 @@ public class SimpleLaser extends Tower implements SpriteTransformation {
 
             if (isReloaded()) {
                 Vector2 from = getPosition().add(Vector2.polar(LASER_SPAWN_OFFSET, mAngle));
-                getGameEngine().add(new BouncingLaser(this, from, mAimer.getTarget(), getDamage()));
+                BouncingLaser laser = (BouncingLaser) getGameEngine().createEntity(BouncingLaser.ENTITY_NAME);
+                laser.setup(this, from, mAimer.getTarget(), getDamage());
+                getGameEngine().add(laser);
                 setReloaded(false);
                 mSound.play();
             }
@@ -132,7 +134,7 @@ public class SimpleLaser extends Tower implements SpriteTransformation {
 
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
+        transformer.translate(getPositionX(), getPositionY());
         transformer.rotate(mAngle);
     }
 
@@ -19,7 +19,6 @@ import ch.logixisland.anuto.engine.render.sprite.SpriteTransformation;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTransformer;
 import ch.logixisland.anuto.engine.render.sprite.StaticSprite;
 import ch.logixisland.anuto.engine.sound.Sound;
-import ch.logixisland.anuto.util.RandomUtils;
 import ch.logixisland.anuto.util.math.Vector2;
 
 public class StraightLaser extends Tower implements SpriteTransformation {
@@ -64,11 +63,9 @@ public class StraightLaser extends Tower implements SpriteTransformation {
         StaticData s = (StaticData) getStaticData();
 
         mSpriteBase = getSpriteFactory().createStatic(Layers.TOWER_BASE, s.mSpriteTemplateBase);
-        mSpriteBase.setIndex(RandomUtils.next(4));
         mSpriteBase.setListener(this);
 
         mSpriteCanon = getSpriteFactory().createStatic(Layers.TOWER, s.mSpriteTemplateCanon);
-        mSpriteCanon.setIndex(RandomUtils.next(4));
         mSpriteCanon.setListener(this);
 
         mSound = getSoundFactory().createSound(R.raw.laser3_szh);
@@ -96,6 +93,9 @@ public class StraightLaser extends Tower implements SpriteTransformation {
     public void init() {
         super.init();
 
+        mSpriteBase.setIndex(getRandom().next(4));
+        mSpriteCanon.setIndex(getRandom().next(4));
+
         getGameEngine().add(mSpriteBase);
         getGameEngine().add(mSpriteCanon);
     }
@@ -119,7 +119,10 @@ public class StraightLaser extends Tower implements SpriteTransformation {
             if (isReloaded()) {
                 Vector2 laserFrom = getPosition().add(Vector2.polar(LASER_SPAWN_OFFSET, mAngle));
                 Vector2 laserTo = getPosition().add(Vector2.polar(LASER_LENGTH, mAngle));
-                getGameEngine().add(new ch.logixisland.anuto.entity.effect.StraightLaser(this, laserFrom, laserTo, getDamage()));
+                ch.logixisland.anuto.entity.effect.StraightLaser laser = (ch.logixisland.anuto.entity.effect.StraightLaser)
+                        getGameEngine().createEntity(ch.logixisland.anuto.entity.effect.StraightLaser.ENTITY_NAME);
+                laser.setup(this, laserFrom, laserTo, getDamage());
+                getGameEngine().add(laser);
                 setReloaded(false);
                 mSound.play();
             }
@@ -133,7 +136,7 @@ public class StraightLaser extends Tower implements SpriteTransformation {
 
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
+        transformer.translate(getPositionX(), getPositionY());
         transformer.rotate(mAngle);
     }
 
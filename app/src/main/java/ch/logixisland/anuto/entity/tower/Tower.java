@@ -68,6 +68,16 @@ public abstract class Tower extends Entity {
         }
     }
 
+    @Override
+    public void sense() {
+        super.sense();
+        Aimer aimer = getAimer();
+
+        if (aimer != null) {
+            aimer.sense();
+        }
+    }
+
     @Override
     public void tick() {
         super.tick();
@@ -231,8 +241,7 @@ public abstract class Tower extends Entity {
     }
 
     public StreamIterator<Enemy> getPossibleTargets() {
-        return getGameEngine().getEntitiesByType(Types.ENEMY)
-                .filter(inRange(getPosition(), getRange()))
+        return getGameEngine().getEntitiesInRange(Types.ENEMY, getPosition(), getRange())
                 .cast(Enemy.class);
     }
 
@@ -1,8 +1,11 @@
 package ch.logixisland.anuto.util.container;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import ch.logixisland.anuto.util.iterator.LazyIterator;
 import ch.logixisland.anuto.util.iterator.StreamIterable;
@@ -11,96 +14,174 @@ import ch.logixisland.anuto.util.iterator.StreamIterator;
 public class SafeCollection<T> implements Collection<T>, StreamIterable<T> {
 
     private class SafeIterator extends LazyIterator<T> {
+        private int mGeneration;
         private int mNextIndex = 0;
-
-        private SafeIterator() {
-            mIterators.add(this);
+        private boolean mOpen = false;
+
+        private void open() {
+            reset();
+            mGeneration = SafeCollection.this.mGeneration;
+            mNextIndex = 0;
+            mOpen = true;
+            mIteratorCount++;
         }
 
         @Override
         public T fetchNext() {
-            T ret = null;
+            checkValid();
+
+            while (mNextIndex < mItems.size()) {
+                T item = mItems.get(mNextIndex++);
 
-            if (mNextIndex < mItems.size()) {
-                ret = mItems.get(mNextIndex++);
-            } else {
-                close();
+                if (item != null) {
+                    return item;
+                }
             }
 
-            return ret;
+            close();
+            return null;
         }
 
         @Override
         public void close() {
-            mIterators.remove(this);
+            if (mOpen) {
+                mOpen = false;
+
+                if (mGeneration == SafeCollection.this.mGeneration) {
+                    mIteratorCount--;
+                    compactIfSparse();
+                }
+
+                mIteratorPool.push(this);
+            }
         }
 
         @Override
         public void remove() {
-            SafeCollection.this.remove(mNextIndex - 1);
+            checkValid();
+            removeAt(mNextIndex - 1);
+        }
+
+        private void checkValid() {
+            if (!mOpen) {
+                throw new RuntimeException("Iterator used after close!");
+            }
+
+            if (mGeneration != SafeCollection.this.mGeneration) {
+                throw new RuntimeException("Iterator used after compaction!");
+            }
         }
     }
 
+    private final List<T> mItems = new ArrayList<>();
+    private final Map<Object, Integer> mIndices = new HashMap<>();
+    private final ArrayDeque<SafeIterator> mIteratorPool = new ArrayDeque<>();
 
-    private final List<T> mItems;
-    private final Collection<SafeIterator> mIterators = new ArrayList<>();
+    private int mSize = 0;
+    private int mTombstoneCount = 0;
+    private int mDuplicateCount = 0;
+    private int mIteratorCount = 0;
+    private int mGeneration = 0;
 
 
     public SafeCollection() {
-        mItems = new ArrayList<>();
     }
 
 
     @Override
     public boolean add(T object) {
-        return mItems.add(object);
+        if (object == null) {
+            throw new RuntimeException("Null items are not supported!");
+        }
+
+        if (mIndices.containsKey(object)) {
+            mDuplicateCount++;
+        } else {
+            mIndices.put(object, mItems.size());
+        }
+
+        mItems.add(object);
+        mSize++;
+        return true;
     }
 
     @Override
     public boolean addAll(Collection<? extends T> collection) {
-        return mItems.addAll(collection);
+        boolean ret = false;
+
+        for (T item : collection) {
+            if (add(item)) {
+                ret = true;
+            }
+        }
+
+        return ret;
     }
 
     @Override
     public void clear() {
-        mItems.clear();
-
-        for (SafeIterator it : mIterators) {
-            it.mNextIndex = 0;
+        if (mIteratorCount > 0) {
+            for (int i = 0; i < mItems.size(); i++) {
+                if (mItems.get(i) != null) {
+                    mItems.set(i, null);
+                    mTombstoneCount++;
+                }
+            }
+        } else {
+            mItems.clear();
+            mTombstoneCount = 0;
         }
+
+        mIndices.clear();
+        mSize = 0;
+        mDuplicateCount = 0;
     }
 
     @Override
     public boolean contains(Object object) {
-        return mItems.contains(object);
+        //noinspection SuspiciousMethodCalls
+        return mIndices.containsKey(object);
     }
 
     @Override
     public boolean containsAll(Collection<?> collection) {
-        return mItems.containsAll(collection);
+        for (Object item : collection) {
+            if (!contains(item)) {
+                return false;
+            }
+        }
+
+        return true;
     }
 
     @Override
     public boolean isEmpty() {
-        return mItems.isEmpty();
+        return mSize == 0;
     }
 
     @Override
     public StreamIterator<T> iterator() {
-        return new SafeIterator();
+        SafeIterator iterator = mIteratorPool.poll();
+
+        if (iterator == null) {
+            iterator = new SafeIterator();
+        }
+
+        iterator.open();
+        return iterator;
     }
 
     @Override
     public boolean remove(Object object) {
         //noinspection SuspiciousMethodCalls
-        int index = mItems.indexOf(object);
+        Integer index = mIndices.get(object);
 
-        if (index >= 0) {
-            remove(index);
-            return true;
+        if (index == null) {
+            return false;
         }
 
-        return false;
+        removeAt(index);
+        return true;
     }
 
     @Override
@@ -132,30 +213,104 @@ public class SafeCollection<T> implements Collection<T>, StreamIterable<T> {
 
     @Override
     public int size() {
-        return mItems.size();
+        return mSize;
     }
 
     @Override
     public Object[] toArray() {
-        return mItems.toArray();
+        return getLiveItems().toArray();
     }
 
     @Override
     public <T1> T1[] toArray(T1[] array) {
         //noinspection SuspiciousToArrayCall
-        return mItems.toArray(array);
+        return getLiveItems().toArray(array);
     }
 
-    private T remove(int index) {
-        T ret = mItems.remove(index);
+    public void compact() {
+        mGeneration++;
+        mIteratorCount = 0;
 
-        for (SafeIterator it : mIterators) {
-            if (it.mNextIndex > index) {
-                it.mNextIndex--;
+        if (mTombstoneCount > 0) {
+            removeTombstones();
+        }
+    }
+
+    private void compactIfSparse() {
+        if (mIteratorCount == 0 && mTombstoneCount > mSize) {
+            removeTombstones();
+        }
+    }
+
+    private void removeTombstones() {
+        int count = 0;
+        mIndices.clear();
+
+        for (int i = 0; i < mItems.size(); i++) {
+            T item = mItems.get(i);
+
+            if (item != null) {
+                mItems.set(count, item);
+
+                if (!mIndices.containsKey(item)) {
+                    mIndices.put(item, count);
+                }
+
+                count++;
             }
         }
 
-        return ret;
+        mItems.subList(count, mItems.size()).clear();
+
+        mTombstoneCount = 0;
+    }
+
+    private List<T> getLiveItems() {
+        List<T> items = new ArrayList<>(mSize);
+
+        for (T item : mItems) {
+            if (item != null) {
+                items.add(item);
+            }
+        }
+
+        return items;
+    }
+
+    private void removeAt(int index) {
+        T item = mItems.get(index);
+
+        if (item == null) {
+            return;
+        }
+
+        mItems.set(index, null);
+        mTombstoneCount++;
+        mSize--;
+
+        Integer mappedIndex = mIndices.get(item);
+
+        if (mappedIndex != null && mappedIndex == index) {
+            mIndices.remove(item);
+
+            if (mDuplicateCount > 0) {
+                remapDuplicate(item);
+            }
+        } else {
+            mDuplicateCount--;
+        }
+
+        compactIfSparse();
+    }
+
+    private void remapDuplicate(T item) {
+        for (int i = 0; i < mItems.size(); i++) {
+            if (item.equals(mItems.get(i))) {
+                mIndices.put(item, i);
+                mDuplicateCount--;
+                return;
+            }
+        }
     }
 
 }
@@ -11,9 +11,14 @@ public class SafeMultiMap<T> implements StreamIterable<T> {
     private class KeyIterator extends LazyIterator<T> {
         int mKeyIndex = 0;
         StreamIterator<T> mCollectionIterator;
+        boolean mClosed;
 
         @Override
         protected T fetchNext() {
+            if (mClosed) {
+                throw new RuntimeException("Iterator used after close!");
+            }
+
             while (mCollectionIterator == null || !mCollectionIterator.hasNext()) {
                 if (mKeyIndex < mLayers.size()) {
                     mCollectionIterator = mLayers.valueAt(mKeyIndex++).iterator();
@@ -32,6 +37,8 @@ public class SafeMultiMap<T> implements StreamIterable<T> {
 
         @Override
         public void close() {
+            mClosed = true;
+
             if (mCollectionIterator != null) {
                 mCollectionIterator.close();
                 mCollectionIterator = null;
@@ -65,6 +72,12 @@ public class SafeMultiMap<T> implements StreamIterable<T> {
         return get(key).remove(value);
     }
 
+    public void compact() {
+        for (int i = 0; i < mLayers.size(); i++) {
+            mLayers.valueAt(i).compact();
+        }
+    }
+
     public void clear() {
         mLayers.clear();
     }
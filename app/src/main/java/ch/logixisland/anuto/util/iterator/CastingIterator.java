@@ -0,0 +1,30 @@
+package ch.logixisland.anuto.util.iterator;
+
+class CastingIterator<F, T> extends LazyIterator<T> {
+
+    private Class<T> mType;
+    private StreamIterator<F> mOriginal;
+
+    CastingIterator(StreamIterator<F> original, Class<T> type) {
+        mOriginal = original;
+        mType = type;
+    }
+
+    @Override
+    public void close() {
+        mOriginal.close();
+    }
+
+    @Override
+    protected T fetchNext() {
+        while (mOriginal.hasNext()) {
+            F next = mOriginal.next();
+
+            if (mType.isInstance(next)) {
+                return mType.cast(next);
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,5 @@
+package ch.logixisland.anuto.util.iterator;
+
+public interface FloatFunction<F> {
+    float apply(F input);
+}
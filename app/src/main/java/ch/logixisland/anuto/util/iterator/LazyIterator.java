@@ -9,6 +9,11 @@ public abstract class LazyIterator<T> extends StreamIterator<T> {
 
     protected abstract T fetchNext();
 
+    protected void reset() {
+        mNextElement = null;
+        mNextFetched = false;
+    }
+
     @Override
     public boolean hasNext() {
         if (!mNextFetched) {
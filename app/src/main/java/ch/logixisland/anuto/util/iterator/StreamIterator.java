@@ -128,7 +128,7 @@ public abstract class StreamIterator<T> implements Iterator<T> {
     }
 
 
-    public T min(Function<? super T, Float> scoreFunction) {
+    public T minBy(FloatFunction<? super T> scoreFunction) {
         T minObject = null;
         float minValue = 0f;
 
@@ -142,10 +142,11 @@ public abstract class StreamIterator<T> implements Iterator<T> {
             }
         }
 
+        this.close();
         return minObject;
     }
 
-    public T max(Function<? super T, Float> scoreFunction) {
+    public T maxBy(FloatFunction<? super T> scoreFunction) {
         T maxObject = null;
         float maxValue = 0f;
 
@@ -159,6 +160,7 @@ public abstract class StreamIterator<T> implements Iterator<T> {
             }
         }
 
+        this.close();
         return maxObject;
     }
 
@@ -190,31 +192,15 @@ public abstract class StreamIterator<T> implements Iterator<T> {
     }
 
     public <F> StreamIterator<F> filter(final Class<F> klass) {
-        return new FilteringIterator<>(this, new Predicate<T>() {
-            @Override
-            public boolean apply(T value) {
-                return klass.isInstance(value);
-            }
-        }).cast(klass);
+        return new CastingIterator<>(this, klass);
     }
 
-    public <F> StreamIterator<F> cast(final Class<F> castTo) {
-        return new MappingIterator<>(this, new Function<T, F>() {
-            @Override
-            public F apply(T input) {
-                return castTo.cast(input);
-            }
-        });
+    @SuppressWarnings("unchecked")
+    public <F> StreamIterator<F> cast(Class<F> castTo) {
+        return (StreamIterator<F>) this;
     }
 
     public <F> StreamIterator<F> ofType(final Class<F> type) {
-        Predicate<T> predicate = new Predicate<T>() {
-            @Override
-            public boolean apply(T value) {
-                return type.isInstance(value);
-            }
-        };
-
-        return this.filter(predicate).cast(type);
+        return new CastingIterator<>(this, type);
     }
 }
@@ -0,0 +1,77 @@
+package ch.logixisland.anuto.util.math;
+
+public class MutableVector2 {
+
+    private float x;
+    private float y;
+
+    public MutableVector2() {
+        this(0f, 0f);
+    }
+
+    public MutableVector2(float x, float y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    public float x() {
+        return x;
+    }
+
+    public float y() {
+        return y;
+    }
+
+    public MutableVector2 set(float x, float y) {
+        this.x = x;
+        this.y = y;
+        return this;
+    }
+
+    public MutableVector2 set(Vector2 v) {
+        return set(v.x(), v.y());
+    }
+
+    public MutableVector2 set(MutableVector2 v) {
+        return set(v.x, v.y);
+    }
+
+    public MutableVector2 addInPlace(float x, float y) {
+        this.x += x;
+        this.y += y;
+        return this;
+    }
+
+    public MutableVector2 moveTowards(float x, float y, float maxStep) {
+        float dx = x - this.x;
+        float dy = y - this.y;
+        float len = (float) Math.sqrt(dx * dx + dy * dy);
+
+        if (len <= maxStep) {
+            return set(x, y);
+        }
+
+        return addInPlace(dx / len * maxStep, dy / len * maxStep);
+    }
+
+    public MutableVector2 setDirection(float fromX, float fromY, float toX, float toY) {
+        float dx = toX - fromX;
+        float dy = toY - fromY;
+        float len = (float) Math.sqrt(dx * dx + dy * dy);
+        return set(dx / len, dy / len);
+    }
+
+    public float distanceTo(float x, float y) {
+        float dx = x - this.x;
+        float dy = y - this.y;
+        return (float) Math.sqrt(dx * dx + dy * dy);
+    }
+
+    public float angle() {
+        return MathUtils.toDegrees((float) Math.atan2(y, x));
+    }
+
+    public Vector2 toVector2() {
+        return new Vector2(x, y);
+    }
+}
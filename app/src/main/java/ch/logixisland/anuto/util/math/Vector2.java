@@ -15,17 +15,6 @@ public class Vector2 {
     private float x;
     private float y;
 
-    public static String serializeList(List<Vector2> vectors) {
-        StringBuilder builder = new StringBuilder();
-        for (int i = 0; i < vectors.size(); i++) {
-            if (i > 0) {
-                builder.append(";");
-            }
-            builder.append(vectors.get(i).toString());
-        }
-        return builder.toString();
-    }
-
     public static List<Vector2> deserializeList(String string) {
         String[] parts = string.split(";");
         List<Vector2> result = new ArrayList<>();
@@ -90,6 +79,16 @@ public class Vector2 {
         return x * x + y * y;
     }
 
+    public float distanceTo(Vector2 v) {
+        return distanceTo(v.x, v.y);
+    }
+
+    public float distanceTo(float x, float y) {
+        float dx = x - this.x;
+        float dy = y - this.y;
+        return (float) Math.sqrt(dx * dx + dy * dy);
+    }
+
     public Vector2 norm() {
         return this.div(this.len());
     }
@@ -61,6 +61,7 @@ public class GameActivity extends AnutoActivity {
         super.onPause();
         mGameLoader.saveGame();
         mGameEngine.stop();
+        mGameLoader.waitForPendingSave();
     }
 
     @Override
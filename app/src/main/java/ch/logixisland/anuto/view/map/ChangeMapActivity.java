@@ -10,6 +10,7 @@ import android.widget.ImageView;
 import ch.logixisland.anuto.AnutoApplication;
 import ch.logixisland.anuto.GameFactory;
 import ch.logixisland.anuto.R;
+import ch.logixisland.anuto.business.game.GameConfigurationLoader;
 import ch.logixisland.anuto.business.game.GameLoader;
 import ch.logixisland.anuto.business.game.HighScores;
 import ch.logixisland.anuto.business.game.MapRepository;
@@ -20,6 +21,7 @@ public class ChangeMapActivity extends AnutoActivity implements AdapterView.OnIt
         ViewTreeObserver.OnScrollChangedListener {
 
     private final GameLoader mGameLoader;
+    private final GameConfigurationLoader mConfigurationLoader;
     private final MapRepository mMapRepository;
     private final HighScores mHighScores;
 
@@ -32,6 +34,7 @@ public class ChangeMapActivity extends AnutoActivity implements AdapterView.OnIt
     public ChangeMapActivity() {
         GameFactory factory = AnutoApplication.getInstance().getGameFactory();
         mGameLoader = factory.getGameLoader();
+        mConfigurationLoader = factory.getConfigurationLoader();
         mMapRepository = factory.getMapRepository();
         mHighScores = factory.getHighScores();
     }
@@ -46,6 +49,8 @@ public class ChangeMapActivity extends AnutoActivity implements AdapterView.OnIt
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_change_map);
 
+        mConfigurationLoader.preload(mMapRepository.getMapInfos());
+
         mAdapter = new MapsAdapter(this, mMapRepository, mHighScores);
 
         arrow_up = (ImageView) findViewById(R.id.arrow_up);